@@ -0,0 +1,19 @@
+import api from './client';
+
+export interface DashboardStats {
+    created: number;
+    assigned: number;
+    submitted: number;
+    approved: number;
+    returned: number;
+    total: number;
+}
+
+export const dashboardApi = {
+    getStats: async (academicPeriodId?: number) => {
+        const response = await api.get<DashboardStats>('/dashboard/stats', {
+            params: academicPeriodId ? { academicPeriodId } : undefined
+        });
+        return response.data;
+    }
+};
@@ -70,6 +70,20 @@ export interface CreateSyllabusDTO {
     career?: string;
 }
 
+export interface BulkStatusUpdateDTO {
+    ids?: number[];
+    academicPeriodId?: number;
+    career?: string;
+    currentStatus?: SyllabusStatus;
+    targetStatus: SyllabusStatus;
+}
+
+export interface BulkStatusResult {
+    id: number;
+    outcome: 'UPDATED' | 'NOT_FOUND' | 'OUT_OF_SCOPE' | 'INVALID_TRANSITION' | 'SKIPPED' | 'CONFLICT';
+    message?: string;
+}
+
 export const syllabusApi = {
     getAll: async () => {
         const response = await api.get<Syllabus[]>('/syllabi');
@@ -98,6 +112,11 @@ export const syllabusApi = {
         return response.data;
     },
 
+    bulkUpdateStatus: async (data: BulkStatusUpdateDTO) => {
+        const response = await api.post<BulkStatusResult[]>('/syllabi/status/bulk', data);
+        return response.data;
+    },
+
     getPdf: async (id: number) => {
         const response = await api.get(`/syllabi/${id}/pdf`, { responseType: 'blob' });
         return response.data;
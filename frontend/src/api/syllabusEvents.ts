@@ -0,0 +1,77 @@
+import type { SyllabusStatus } from './syllabusApi';
+
+export type SyllabusEventName = 'connected' | 'created' | 'assigned' | 'status_changed' | 'updated' | 'deleted' | 'batch' | 'resync';
+
+export interface SyllabusChangedEvent {
+    type: 'CREATED' | 'STATUS_CHANGED' | 'UPDATED' | 'DELETED';
+    syllabusId: number;
+    academicPeriodId: number;
+    courseName: string;
+    professorId?: number;
+    previousCareer?: string;
+    career?: string;
+    previousStatus?: SyllabusStatus;
+    status?: SyllabusStatus;
+}
+
+const baseURL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch.
+// Returns an unsubscribe function; the stream reconnects on its own after errors or server timeouts.
+export const subscribeToSyllabusEvents = (
+    onEvent: (name: SyllabusEventName, event?: SyllabusChangedEvent) => void
+) => {
+    const controller = new AbortController();
+
+    const connect = async () => {
+        while (!controller.signal.aborted) {
+            try {
+                const response = await fetch(`${baseURL}/syllabi/events`, {
+                    headers: { Authorization: `Bearer ${localStorage.getItem('token')}` },
+                    signal: controller.signal,
+                });
+                if (!response.ok || !response.body) throw new Error(`SSE status ${response.status}`);
+
+                const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += value;
+                    let separator;
+                    while ((separator = buffer.indexOf('\n\n')) >= 0) {
+                        dispatch(buffer.slice(0, separator), onEvent);
+                        buffer = buffer.slice(separator + 2);
+                    }
+                }
+            } catch (error) {
+                if (controller.signal.aborted) return;
+                console.error('Syllabus event stream error:', error);
+            }
+            await new Promise(resolve => setTimeout(resolve, 5000));
+        }
+    };
+
+    connect();
+    return () => controller.abort();
+};
+
+const dispatch = (
+    block: string,
+    onEvent: (name: SyllabusEventName, event?: SyllabusChangedEvent) => void
+) => {
+    let name = 'message';
+    let data = '';
+    for (const line of block.split('\n')) {
+        if (line.startsWith('event:')) name = line.slice(6).trim();
+        else if (line.startsWith('data:')) data += line.slice(5).trim();
+    }
+    if (name === 'message') return; // keep-alive comments
+    let parsed: SyllabusChangedEvent | undefined;
+    try {
+        parsed = data.startsWith('{') ? JSON.parse(data) : undefined;
+    } catch {
+        parsed = undefined;
+    }
+    onEvent(name as SyllabusEventName, parsed);
+};
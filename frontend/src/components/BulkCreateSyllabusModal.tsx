@@ -115,7 +115,7 @@ export const BulkCreateSyllabusModal: React.FC<BulkCreateSyllabusModalProps> = (
                     <div className="flex flex-col items-center justify-center border-3 border-dashed border-black p-8 bg-gray-50 hover:bg-white transition-colors cursor-pointer relative group">
                         <input
                             type="file"
-                            accept=".xlsx, .xls"
+                            accept=".xlsx, .xls, .csv"
                             onChange={handleFileChange}
                             className="absolute inset-0 w-full h-full opacity-0 cursor-pointer z-10"
                         />
@@ -140,7 +140,7 @@ export const BulkCreateSyllabusModal: React.FC<BulkCreateSyllabusModalProps> = (
                             <div className="text-center group-hover:scale-105 transition-transform duration-200">
                                 <Upload size={48} className="mx-auto mb-2 text-gray-400 group-hover:text-black" />
                                 <p className="font-bold text-lg text-gray-600 group-hover:text-black">Subir Excel Masivo</p>
-                                <p className="text-sm text-gray-400">Archivos .xlsx o .xls</p>
+                                <p className="text-sm text-gray-400">Archivos .xlsx, .xls o .csv</p>
                             </div>
                         )}
                     </div>
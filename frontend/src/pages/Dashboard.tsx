@@ -1,7 +1,8 @@
 import { useEffect, useState } from 'react';
 import { useAuth } from "../context/AuthContext";
-import { syllabusApi } from '../api/syllabusApi';
-import type { Syllabus } from '../api/syllabusApi';
+import { dashboardApi } from '../api/dashboardApi';
+import type { DashboardStats } from '../api/dashboardApi';
+import { subscribeToSyllabusEvents } from '../api/syllabusEvents';
 import { FileText, Send, Clock, CheckCircle, XCircle } from 'lucide-react';
 import { useNavigate } from 'react-router-dom';
 import toast from 'react-hot-toast';
@@ -10,31 +11,41 @@ import { getRoleDisplayName } from '../utils/roleUtils';
 export const Dashboard = () => {
     const { user } = useAuth();
     const navigate = useNavigate();
-    const [syllabi, setSyllabi] = useState<Syllabus[]>([]);
+    const [stats, setStats] = useState<DashboardStats>({
+        created: 0,
+        assigned: 0,
+        submitted: 0,
+        approved: 0,
+        returned: 0,
+        total: 0,
+    });
 
     useEffect(() => {
-        fetchSyllabi();
+        fetchStats();
+
+        let timer: ReturnType<typeof setTimeout> | undefined;
+        const unsubscribe = subscribeToSyllabusEvents((name) => {
+            if (name === 'connected') return;
+            clearTimeout(timer);
+            timer = setTimeout(fetchStats, 300);
+        });
+        return () => {
+            clearTimeout(timer);
+            unsubscribe();
+        };
     }, []);
 
-    const fetchSyllabi = async () => {
+    // Statistics are computed by the backend, no need to download every syllabus
+    const fetchStats = async () => {
         try {
-            const data = await syllabusApi.getAll();
-            setSyllabi(data);
+            const data = await dashboardApi.getStats();
+            setStats(data);
         } catch (error) {
-            console.error('Error fetching syllabi:', error);
-            toast.error('Error al cargar sílabos');
+            console.error('Error fetching dashboard stats:', error);
+            toast.error('Error al cargar estadísticas');
         }
     };
 
-    // Calculate statistics
-    const stats = {
-        created: syllabi.filter(s => s.workflowStatus === 'CREATED').length,
-        assigned: syllabi.filter(s => s.workflowStatus === 'ASSIGNED').length,
-        submitted: syllabi.filter(s => s.workflowStatus === 'SUBMITTED').length,
-        approved: syllabi.filter(s => s.workflowStatus === 'APPROVED').length,
-        returned: syllabi.filter(s => s.workflowStatus === 'RETURNED').length,
-    };
-
     const statCards = [
         {
             title: user?.role === 'COORDINATOR' ? 'Pendiente de asignar' : 'Creados',
@@ -4,6 +4,7 @@ import { syllabusApi } from '../api/syllabusApi';
 import type { Syllabus } from '../api/syllabusApi';
 import { periodApi } from '../api/periodApi';
 import type { AcademicPeriod } from '../api/periodApi';
+import { subscribeToSyllabusEvents } from '../api/syllabusEvents';
 import { CreateSyllabusModal } from '../components/CreateSyllabusModal';
 import { BulkCreateSyllabusModal } from '../components/BulkCreateSyllabusModal';
 import { UploadExcelModal } from '../components/UploadExcelModal';
@@ -53,6 +54,20 @@ export const SyllabiPage = () => {
         return () => document.removeEventListener('mousedown', handleClickOutside);
     }, []);
 
+    // Reload when the server pushes a workflow change instead of polling; bursts (bulk imports) are coalesced
+    useEffect(() => {
+        let timer: ReturnType<typeof setTimeout> | undefined;
+        const unsubscribe = subscribeToSyllabusEvents((name) => {
+            if (name === 'connected') return;
+            clearTimeout(timer);
+            timer = setTimeout(fetchSyllabi, 300);
+        });
+        return () => {
+            clearTimeout(timer);
+            unsubscribe();
+        };
+    }, []);
+
     const fetchPeriods = async () => {
         try {
             const data = await periodApi.getAll();
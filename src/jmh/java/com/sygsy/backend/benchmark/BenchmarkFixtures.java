@@ -0,0 +1,181 @@
+package com.sygsy.backend.benchmark;
+
+import com.sygsy.backend.domain.AcademicPeriod;
+import com.sygsy.backend.domain.Evaluation;
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.domain.SyllabusUnit;
+import com.sygsy.backend.domain.User;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the inputs shared by the benchmarks: spreadsheets in the 14-column bulk import layout
+ * and syllabi with all associations and collections loaded.
+ */
+final class BenchmarkFixtures {
+
+    static final String[] HEADER = {
+            "Facultad", "Carrera", "Periodo", "Semestre", "Créditos", "Horas Totales", "Horas Teoría",
+            "Horas Práctica", "Área de Formación", "Código", "Curso", "Tipo", "Prerrequisitos", "Correo Docente"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static byte[] spreadsheet(int rows) {
+        return spreadsheet(rows, 1);
+    }
+
+    // The rows spread evenly over the given number of sheets, each with its own header
+    static byte[] spreadsheet(int rows, int sheets) {
+        // Streaming writer so building the 100k-row input does not distort the measured heap
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = null;
+            int perSheet = (rows + sheets - 1) / sheets;
+            int rowInSheet = 0;
+            for (int r = 1; r <= rows; r++) {
+                if (sheet == null || rowInSheet == perSheet) {
+                    sheet = workbook.createSheet("Cursos " + (workbook.getNumberOfSheets() + 1));
+                    Row header = sheet.createRow(0);
+                    for (int i = 0; i < HEADER.length; i++) {
+                        header.createCell(i).setCellValue(HEADER[i]);
+                    }
+                    rowInSheet = 0;
+                }
+                Row row = sheet.createRow(++rowInSheet);
+                row.createCell(0).setCellValue("Facultad de Ingeniería");
+                row.createCell(1).setCellValue("Ingeniería de Software");
+                row.createCell(2).setCellValue("2025-I");
+                row.createCell(3).setCellValue(String.valueOf(1 + r % 10));
+                row.createCell(4).setCellValue(4);
+                row.createCell(5).setCellValue(96);
+                row.createCell(6).setCellValue(32);
+                row.createCell(7).setCellValue(64);
+                row.createCell(8).setCellValue("Especialidad");
+                row.createCell(9).setCellValue("IS" + String.format("%06d", r));
+                row.createCell(10).setCellValue("Curso de prueba " + r);
+                row.createCell(11).setCellValue("Obligatorio");
+                row.createCell(12).setCellValue(r > 1 ? "IS" + String.format("%06d", r - 1) : "Ninguno");
+                row.createCell(13).setCellValue("docente" + (r % 500) + "@ulasalle.edu.pe");
+            }
+            workbook.write(out);
+            workbook.dispose();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The same rows as spreadsheet(rows), as the registrar's CSV export (comma separated, UTF-8)
+    static byte[] csv(int rows) {
+        StringBuilder csv = new StringBuilder(rows * 200);
+        csv.append(String.join(",", HEADER)).append("\r\n");
+        for (int r = 1; r <= rows; r++) {
+            csv.append("Facultad de Ingeniería,Ingeniería de Software,2025-I,").append(1 + r % 10)
+                    .append(",4,96,32,64,Especialidad,IS").append(String.format("%06d", r))
+                    .append(",\"Curso de prueba ").append(r).append("\",Obligatorio,")
+                    .append(r > 1 ? "IS" + String.format("%06d", r - 1) : "Ninguno")
+                    .append(",docente").append(r % 500).append("@ulasalle.edu.pe\r\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Syllabus syllabus(int textRepeat) {
+        User coordinator = User.builder().id(1L).username("coordinador@ulasalle.edu.pe").fullName("Coordinador").role(User.Role.COORDINATOR).career("Ingeniería de Software").build();
+        User professor = User.builder().id(2L).username("docente@ulasalle.edu.pe").fullName("Docente de Prueba").role(User.Role.PROFESSOR).build();
+        AcademicPeriod period = AcademicPeriod.builder().id(1L).name("2025-I")
+                .startDate(LocalDate.of(2025, 3, 17)).endDate(LocalDate.of(2025, 7, 25)).coordinator(coordinator).build();
+
+        String paragraph = "Analiza, diseña e implementa soluciones de software aplicando principios de ingeniería, "
+                + "buenas prácticas y trabajo colaborativo, con responsabilidad ética y social. ";
+        String text = paragraph.repeat(textRepeat);
+
+        Syllabus syllabus = Syllabus.builder()
+                .id(1L).faculty("Facultad de Ingeniería").career("Ingeniería de Software").academicPeriod(period)
+                .semester("V").credits(4).totalHours(96).theoryHours(32).practiceHours(64).trainingArea("Especialidad")
+                .courseCode("IS0501").courseName("Arquitectura de Software").courseType("Obligatorio").prerequisites("IS0402")
+                .professor(professor).professorEmail(professor.getUsername()).coordinator(coordinator)
+                .courseCompetence(text).profileCompetence(text).previousCompetence(text).sumilla(text)
+                .bibliography(text).activities(text).workflowStatus(Syllabus.SyllabusStatus.SUBMITTED)
+                .build();
+
+        List<SyllabusUnit> units = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            units.add(SyllabusUnit.builder().id((long) i).unitNumber(i).title("UNIDAD " + i)
+                    .startDate(LocalDate.of(2025, 3, 17).plusWeeks((i - 1) * 4L)).endDate(LocalDate.of(2025, 3, 17).plusWeeks(i * 4L))
+                    .content(text).week1Content(text).week2Content(text).week3Content(text).week4Content(text).methodology(text)
+                    .syllabus(syllabus).build());
+        }
+        syllabus.setUnits(units);
+
+        String[] names = {"EVIDENCIA 1", "EVIDENCIA 2", "EXAMEN PARCIAL", "EVIDENCIA 3", "EVIDENCIA 4", "EXAMEN FINAL"};
+        double[] weights = {0.10, 0.10, 0.30, 0.10, 0.10, 0.30};
+        List<Evaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            evaluations.add(Evaluation.builder().id((long) i + 1).name(names[i]).weight(weights[i])
+                    .consolidationDate(LocalDate.of(2025, 4, 1).plusWeeks(i * 2L)).description(text).syllabus(syllabus).build());
+        }
+        syllabus.setEvaluations(evaluations);
+        return syllabus;
+    }
+
+    /** Minimal in-memory MultipartFile so ExcelService can be driven without a servlet container. */
+    static MultipartFile multipart(String name, byte[] content) {
+        return new MultipartFile() {
+            @Override
+            public String getName() {
+                return "file";
+            }
+
+            @Override
+            public String getOriginalFilename() {
+                return name;
+            }
+
+            @Override
+            public String getContentType() {
+                return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return content.length == 0;
+            }
+
+            @Override
+            public long getSize() {
+                return content.length;
+            }
+
+            @Override
+            public byte[] getBytes() {
+                return content;
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public void transferTo(File dest) throws IOException {
+                Files.write(dest.toPath(), content);
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.sygsy.backend.benchmark;
+
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.service.ExcelService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ExcelParseBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int rows;
+
+    // Sheets are parsed concurrently, up to the executor's parallelism
+    @Param({"1", "4"})
+    private int sheets;
+
+    private ThreadPoolTaskExecutor executor;
+    private ExcelService excelService;
+    private MultipartFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        excelService = new ExcelService(new SimpleMeterRegistry(), executor, DataSize.ofMegabytes(512));
+        file = BenchmarkFixtures.multipart("cursos_" + rows + ".xlsx", BenchmarkFixtures.spreadsheet(rows, sheets));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public List<Syllabus> parseAllSyllabi() {
+        return excelService.parseAllSyllabi(file);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sygsy.backend.benchmark;
+
+import com.sygsy.backend.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String USERNAME = "docente@ulasalle.edu.pe";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil();
+        // Same values as application.properties; the fields are normally injected with @Value
+        set("secret", "sygsy-secret-key-for-jwt-token-generation-make-it-long-and-random-for-production-use-minimum-256-bits");
+        set("expiration", 86400000L);
+        token = jwtUtil.generateToken(USERNAME, "PROFESSOR");
+    }
+
+    private void set(String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(USERNAME, "PROFESSOR");
+    }
+
+    @Benchmark
+    public String parse() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    // What JwtAuthenticationFilter does on every request: extract, then validate
+    @Benchmark
+    public boolean extractAndValidate() {
+        String username = jwtUtil.extractUsername(token);
+        return jwtUtil.validateToken(token, username);
+    }
+}
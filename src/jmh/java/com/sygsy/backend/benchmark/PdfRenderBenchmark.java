@@ -0,0 +1,46 @@
+package com.sygsy.backend.benchmark;
+
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.service.PdfService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PdfRenderBenchmark {
+
+    // 1: a freshly created syllabus with short texts; 40: every TEXT section several pages long
+    @Param({"1", "40"})
+    private int textRepeat;
+
+    private PdfService pdfService;
+    private Syllabus syllabus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pdfService = new PdfService(new SimpleMeterRegistry());
+        syllabus = BenchmarkFixtures.syllabus(textRepeat);
+    }
+
+    @Benchmark
+    public byte[] generateSyllabusPdf() {
+        return pdfService.generateSyllabusPdf(syllabus);
+    }
+}
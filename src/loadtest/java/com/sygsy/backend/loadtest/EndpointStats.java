@@ -0,0 +1,64 @@
+package com.sygsy.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latencies of one endpoint (method + route template). Samples are kept raw so percentiles are
+ * exact; a run produces at most a few hundred thousand samples.
+ */
+class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long queryStatements;
+    private long queryStatementSamples;
+
+    synchronized void record(long latencyMicros, boolean error, long statements) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyMicros;
+        if (error) {
+            errors++;
+        }
+        // Server-Timing is only present when sygsy.sql-profiler.enabled=true (the default)
+        if (statements >= 0) {
+            queryStatements += statements;
+            queryStatementSamples++;
+        }
+    }
+
+    synchronized Map<String, Object> summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("errors", errors);
+        summary.put("throughput", round(count / seconds));
+        summary.put("p50", millis(percentile(sorted, 0.50)));
+        summary.put("p95", millis(percentile(sorted, 0.95)));
+        summary.put("p99", millis(percentile(sorted, 0.99)));
+        summary.put("max", millis(count == 0 ? 0 : sorted[count - 1]));
+        if (queryStatementSamples > 0) {
+            summary.put("statementsPerRequest", round((double) queryStatements / queryStatementSamples));
+        }
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,173 @@
+package com.sygsy.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test against a locally running backend (mvn -Ploadtest verify). Virtual users are
+ * started evenly over the ramp-up, samples taken during the warm-up are discarded, and the result
+ * (p50/p95/p99 and throughput per endpoint) is written to benchmarks/results and compared with the
+ * stored baseline: a p95 or throughput worse than the tolerance fails the run.
+ */
+public class LoadTest {
+
+    final LoadTestConfig config = new LoadTestConfig();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile boolean measuring;
+
+    // Runs inside the Maven JVM (exec:java) so -Dloadtest.* reach it; a regression fails the build
+    public static void main(String[] args) throws Exception {
+        if (new LoadTest().run() != 0) {
+            throw new IllegalStateException("Load test regressed against the baseline");
+        }
+    }
+
+    int run() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        int users = config.professors + config.coordinators;
+        Instant start = Instant.now();
+        Instant deadline = start.plus(config.warmUp).plus(config.duration);
+        System.out.printf("Load test %s: %d professors + %d coordinators against %s for %ds (+%ds warm-up)%n",
+                config.label, config.professors, config.coordinators, config.baseUrl, config.duration.toSeconds(), config.warmUp.toSeconds());
+
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        long rampStep = users > 1 ? config.rampUp.toMillis() / (users - 1) : 0;
+        for (int i = 0; i < users; i++) {
+            VirtualUser.Role role = i < config.professors ? VirtualUser.Role.PROFESSOR : VirtualUser.Role.COORDINATOR;
+            pool.execute(new VirtualUser(this, http, mapper, role, config.seed + i, deadline));
+            Thread.sleep(rampStep);
+        }
+
+        Thread.sleep(Math.max(0, Duration.between(Instant.now(), start.plus(config.warmUp)).toMillis()));
+        stats.clear();
+        measuring = true;
+        Instant measureStart = Instant.now();
+
+        pool.shutdown();
+        pool.awaitTermination(config.duration.toSeconds() + 120, TimeUnit.SECONDS);
+        pool.shutdownNow();
+        measuring = false;
+        double seconds = Math.max(1, Duration.between(measureStart, Instant.now()).toMillis() / 1000.0);
+
+        Map<String, Map<String, Object>> endpoints = new TreeMap<>();
+        stats.forEach((endpoint, s) -> endpoints.put(endpoint, s.summarize(seconds)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", LocalDateTime.now().toString());
+        result.put("config", config.toMap());
+        result.put("failures", failures.get());
+        result.put("endpoints", endpoints);
+
+        printTable(endpoints);
+        Path file = write(mapper, result);
+        System.out.println("Result written to " + file.toAbsolutePath());
+
+        if (config.updateBaseline || !Files.exists(config.baseline)) {
+            mapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.baseline.toFile(), result);
+            System.out.println("Baseline stored at " + config.baseline.toAbsolutePath());
+            return 0;
+        }
+        JsonNode baseline = mapper.readTree(config.baseline.toFile());
+        printComparison(endpoints, baseline);
+        List<String> regressions = compare(endpoints, baseline.path("endpoints"));
+        if (regressions.isEmpty()) {
+            System.out.printf("No regressions against %s (tolerance %.0f%%)%n", config.baseline, config.tolerance * 100);
+            return 0;
+        }
+        regressions.forEach(r -> System.out.println("REGRESSION " + r));
+        return config.failOnRegression ? 1 : 0;
+    }
+
+    void record(String endpoint, long latencyMicros, boolean error, long statements) {
+        if (!measuring) return;
+        stats.computeIfAbsent(endpoint, e -> new EndpointStats()).record(latencyMicros, error, statements);
+    }
+
+    void recordFailure(Exception e) {
+        if (failures.incrementAndGet() <= 10) {
+            System.err.println("Request failed: " + e);
+        }
+    }
+
+    private List<String> compare(Map<String, Map<String, Object>> current, JsonNode baseline) {
+        List<String> regressions = new ArrayList<>();
+        baseline.fields().forEachRemaining(entry -> {
+            Map<String, Object> now = current.get(entry.getKey());
+            if (now == null) return;
+            double baseP95 = entry.getValue().path("p95").asDouble();
+            double baseThroughput = entry.getValue().path("throughput").asDouble();
+            double p95 = ((Number) now.get("p95")).doubleValue();
+            double throughput = ((Number) now.get("throughput")).doubleValue();
+            if (baseP95 > 0 && p95 > baseP95 * (1 + config.tolerance)) {
+                regressions.add(String.format("%s p95 %.1f ms > baseline %.1f ms", entry.getKey(), p95, baseP95));
+            }
+            if (baseThroughput > 0 && throughput < baseThroughput * (1 - config.tolerance)) {
+                regressions.add(String.format("%s throughput %.2f req/s < baseline %.2f req/s", entry.getKey(), throughput, baseThroughput));
+            }
+        });
+        return regressions;
+    }
+
+    // Side by side with the baseline, e.g. to compare platform and virtual threads on the same dataset
+    private static void printComparison(Map<String, Map<String, Object>> current, JsonNode baseline) {
+        System.out.printf("Compared with baseline '%s' (%s):%n", baseline.path("config").path("label").asText(""),
+                baseline.path("timestamp").asText());
+        System.out.printf("%-40s %18s %18s %18s%n", "endpoint", "req/s", "p95 ms", "p99 ms");
+        current.forEach((endpoint, now) -> {
+            JsonNode before = baseline.path("endpoints").path(endpoint);
+            if (before.isMissingNode()) return;
+            System.out.printf("%-40s %18s %18s %18s%n", endpoint,
+                    delta(before.path("throughput").asDouble(), now.get("throughput")),
+                    delta(before.path("p95").asDouble(), now.get("p95")),
+                    delta(before.path("p99").asDouble(), now.get("p99")));
+        });
+        System.out.println();
+    }
+
+    private static String delta(double before, Object now) {
+        double value = ((Number) now).doubleValue();
+        String change = before > 0 ? String.format("%+.0f%%", (value - before) * 100 / before) : "n/a";
+        return String.format("%.1f (%s)", value, change);
+    }
+
+    private Path write(ObjectMapper mapper, Map<String, Object> result) throws IOException {
+        Files.createDirectories(config.resultsDir);
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = config.resultsDir.resolve("loadtest-" + stamp + ".json");
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), result);
+        return file;
+    }
+
+    private static void printTable(Map<String, Map<String, Object>> endpoints) {
+        System.out.printf("%n%-40s %8s %7s %9s %9s %9s %9s %8s%n", "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "stmts");
+        endpoints.forEach((endpoint, s) -> System.out.printf("%-40s %8s %7s %9s %9s %9s %9s %8s%n",
+                endpoint, s.get("count"), s.get("errors"), s.get("throughput"), s.get("p50"), s.get("p95"), s.get("p99"),
+                s.getOrDefault("statementsPerRequest", "-")));
+        System.out.println();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sygsy.backend.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from system properties (-Dloadtest.professors=50 ...). Defaults target the
+ * synthetic dataset written by the "datagen" profile.
+ */
+public class LoadTestConfig {
+
+    final String baseUrl = get("loadtest.baseUrl", "http://localhost:8080");
+    // Free text stored with the result, e.g. "platform-threads" / "virtual-threads"
+    final String label = get("loadtest.label", "");
+    final int professors = Integer.parseInt(get("loadtest.professors", "40"));
+    final int coordinators = Integer.parseInt(get("loadtest.coordinators", "5"));
+    final Duration duration = Duration.ofSeconds(Long.parseLong(get("loadtest.durationSeconds", "120")));
+    final Duration rampUp = Duration.ofSeconds(Long.parseLong(get("loadtest.rampUpSeconds", "20")));
+    final Duration warmUp = Duration.ofSeconds(Long.parseLong(get("loadtest.warmUpSeconds", "15")));
+    final long thinkTimeMillis = Long.parseLong(get("loadtest.thinkTimeMillis", "1000"));
+    final int actionsPerSession = Integer.parseInt(get("loadtest.actionsPerSession", "5"));
+
+    // Accounts created by DatasetGenerator; %d is replaced with a random index below the count
+    final String professorPattern = get("loadtest.professorPattern", "gen.docente%d@ulasalle.edu.pe");
+    final int professorAccounts = Integer.parseInt(get("loadtest.professorAccounts", "4000"));
+    final String coordinatorPattern = get("loadtest.coordinatorPattern", "gen.coordinador%d@ulasalle.edu.pe");
+    final int coordinatorAccounts = Integer.parseInt(get("loadtest.coordinatorAccounts", "40"));
+    final String password = get("loadtest.password", "password");
+
+    final Path baseline = Paths.get(get("loadtest.baseline", "benchmarks/loadtest-baseline.json"));
+    final Path resultsDir = Paths.get(get("loadtest.resultsDir", "benchmarks/results"));
+    final double tolerance = Double.parseDouble(get("loadtest.tolerance", "0.20"));
+    final boolean updateBaseline = Boolean.parseBoolean(get("loadtest.updateBaseline", "false"));
+    final boolean failOnRegression = Boolean.parseBoolean(get("loadtest.failOnRegression", "true"));
+    final long seed = Long.parseLong(get("loadtest.seed", "42"));
+
+    private static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("label", label);
+        map.put("baseUrl", baseUrl);
+        map.put("professors", professors);
+        map.put("coordinators", coordinators);
+        map.put("durationSeconds", duration.toSeconds());
+        map.put("rampUpSeconds", rampUp.toSeconds());
+        map.put("warmUpSeconds", warmUp.toSeconds());
+        map.put("thinkTimeMillis", thinkTimeMillis);
+        map.put("actionsPerSession", actionsPerSession);
+        return map;
+    }
+}
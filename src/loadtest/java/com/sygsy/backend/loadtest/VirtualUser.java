@@ -0,0 +1,215 @@
+package com.sygsy.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One simulated user replaying the flows of sygsy.postman_collection.json until the deadline:
+ * professors log in, list, open, edit and download their syllabi; coordinators list and filter,
+ * check the dashboard, download PDFs and re-upload the general data Excel of a course.
+ */
+class VirtualUser implements Runnable {
+
+    enum Role { PROFESSOR, COORDINATOR }
+
+    private static final String[] EXCEL_HEADER = {"Facultad", "Carrera", "Periodo", "Semestre", "Créditos", "Horas Totales",
+            "Horas Teoría", "Horas Práctica", "Área de Formación", "Código", "Curso", "Tipo", "Prerrequisitos", "Correo Docente"};
+
+    // Statement count the SQL profiler reports in Server-Timing: db;dur=..;desc="N statements"
+    private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    private final LoadTest test;
+    private final LoadTestConfig config;
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final Role role;
+    private final Random random;
+    private final Instant deadline;
+    private String token;
+
+    VirtualUser(LoadTest test, HttpClient http, ObjectMapper mapper, Role role, long seed, Instant deadline) {
+        this.test = test;
+        this.config = test.config;
+        this.http = http;
+        this.mapper = mapper;
+        this.role = role;
+        this.random = new Random(seed);
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void run() {
+        while (Instant.now().isBefore(deadline) && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (!login()) {
+                    think();
+                    continue;
+                }
+                for (int i = 0; i < config.actionsPerSession && Instant.now().isBefore(deadline); i++) {
+                    if (role == Role.PROFESSOR) {
+                        professorActions();
+                    } else {
+                        coordinatorActions();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                test.recordFailure(e);
+            }
+        }
+    }
+
+    private boolean login() throws IOException, InterruptedException {
+        String username = role == Role.PROFESSOR
+                ? String.format(config.professorPattern, random.nextInt(config.professorAccounts))
+                : String.format(config.coordinatorPattern, random.nextInt(config.coordinatorAccounts));
+        String body = mapper.writeValueAsString(java.util.Map.of("username", username, "password", config.password));
+        HttpResponse<byte[]> response = send("POST /api/auth/login", json("/api/auth/login").POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        token = mapper.readTree(response.body()).path("token").asText();
+        think();
+        return true;
+    }
+
+    private void professorActions() throws IOException, InterruptedException {
+        JsonNode list = getJson("GET /api/syllabi", "/api/syllabi");
+        think();
+        JsonNode pick = pick(list);
+        if (pick == null) return;
+        long id = pick.path("id").asLong();
+
+        JsonNode detail = getJson("GET /api/syllabi/{id}", "/api/syllabi/" + id);
+        think();
+        if (detail != null) {
+            // Save the syllabus as the editor does: the whole document goes back on every save
+            send("PUT /api/syllabi/{id}", authorized("/api/syllabi/" + id)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(detail))));
+            think();
+        }
+        send("GET /api/syllabi/{id}/pdf", authorized("/api/syllabi/" + id + "/pdf").GET());
+        think();
+    }
+
+    private void coordinatorActions() throws IOException, InterruptedException {
+        JsonNode list = getJson("GET /api/syllabi", "/api/syllabi");
+        think();
+        getJson("GET /api/syllabi?status", "/api/syllabi?status=SUBMITTED");
+        think();
+        getJson("GET /api/dashboard/stats", "/api/dashboard/stats");
+        think();
+        JsonNode pick = pick(list);
+        if (pick == null) return;
+        long id = pick.path("id").asLong();
+
+        send("GET /api/syllabi/{id}/pdf", authorized("/api/syllabi/" + id + "/pdf").GET());
+        think();
+
+        String boundary = "----sygsy" + UUID.randomUUID();
+        send("POST /api/syllabi/{id}/upload-excel", authorized("/api/syllabi/" + id + "/upload-excel")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, excelFor(pick)))));
+        think();
+    }
+
+    private JsonNode getJson(String endpoint, String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send(endpoint, authorized(path).GET());
+        return response.statusCode() == 200 ? mapper.readTree(response.body()) : null;
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        long micros = (System.nanoTime() - start) / 1000;
+        long statements = response.headers().firstValue("Server-Timing")
+                .map(STATEMENTS::matcher)
+                .filter(Matcher::find)
+                .map(m -> Long.parseLong(m.group(1)))
+                .orElse(-1L);
+        test.record(endpoint, micros, response.statusCode() >= 400, statements);
+        return response;
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private JsonNode pick(JsonNode list) {
+        if (list == null || !list.isArray() || list.isEmpty()) return null;
+        return list.get(random.nextInt(list.size()));
+    }
+
+    // Think time is uniform between 50% and 150% of the configured mean
+    private void think() throws InterruptedException {
+        if (config.thinkTimeMillis > 0) {
+            Thread.sleep(config.thinkTimeMillis / 2 + (long) (random.nextDouble() * config.thinkTimeMillis));
+        }
+    }
+
+    // One-row workbook with the same general data the course already has, so uploads are idempotent
+    private byte[] excelFor(JsonNode syllabus) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Sílabos");
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < EXCEL_HEADER.length; i++) {
+                header.createCell(i).setCellValue(EXCEL_HEADER[i]);
+            }
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(syllabus.path("faculty").asText(""));
+            row.createCell(1).setCellValue(syllabus.path("career").asText(""));
+            row.createCell(2).setCellValue(syllabus.path("academicPeriod").path("name").asText(""));
+            row.createCell(3).setCellValue(syllabus.path("semester").asText(""));
+            row.createCell(4).setCellValue(syllabus.path("credits").asInt());
+            row.createCell(5).setCellValue(syllabus.path("totalHours").asInt());
+            row.createCell(6).setCellValue(syllabus.path("theoryHours").asInt());
+            row.createCell(7).setCellValue(syllabus.path("practiceHours").asInt());
+            row.createCell(8).setCellValue(syllabus.path("trainingArea").asText(""));
+            row.createCell(9).setCellValue(syllabus.path("courseCode").asText(""));
+            row.createCell(10).setCellValue(syllabus.path("courseName").asText(""));
+            row.createCell(11).setCellValue(syllabus.path("courseType").asText(""));
+            row.createCell(12).setCellValue(syllabus.path("prerequisites").asText(""));
+            row.createCell(13).setCellValue(syllabus.path("professorEmail").asText(""));
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] multipart(String boundary, byte[] file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(file.length + 512);
+        out.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"silabo.xlsx\"\r\n"
+                + "Content-Type: application/vnd.openxmlformats-officedocument.spreadsheetml.sheet\r\n\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+        out.write(file);
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
@@ -48,6 +48,7 @@ public class DataInitializer implements CommandLineRunner {
                     user.setPassword(passwordEncoder.encode(adminPassword));
                     user.setRole(User.Role.COORDINATOR);
                     user.setCareer(null); // Ensure admin has no career
+                    user.setCareerId(null);
                     user.setStatus("ACTIVE");
                     userRepository.save(user);
                     log.info("Admin reset.");
@@ -59,6 +60,7 @@ public class DataInitializer implements CommandLineRunner {
                     admin.setFullName("Administrador del Sistema");
                     admin.setRole(User.Role.COORDINATOR);
                     admin.setCareer(null);
+                    admin.setCareerId(null);
                     admin.setStatus("ACTIVE");
                     userRepository.save(admin);
                     log.info("Admin created.");
@@ -0,0 +1,356 @@
+package com.sygsy.backend.config;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Fills the database with a production-sized synthetic dataset for load and performance testing:
+ * careers, coordinators, thousands of professors, several academic periods and tens of thousands of
+ * syllabi with units, evaluations and long TEXT sections. Rows are written with batched JDBC and
+ * set-based INSERT ... SELECT; matching xlsx files (bulk import layout) are written to the output dir.
+ *
+ * Only active with the "datagen" profile:
+ *   java -jar app.jar --spring.profiles.active=datagen --sygsy.datagen.careers=40
+ * Runs once: it does nothing if the generated periods already exist.
+ */
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    static final String PERIOD_PREFIX = "GEN-";
+    static final String PASSWORD = "password";
+
+    private static final String[] CAREER_NAMES = {
+            "Ingeniería de Software", "Derecho", "Arquitectura y Urbanismo", "Ingeniería Industrial", "Administración de Empresas",
+            "Contabilidad", "Psicología", "Educación Inicial", "Educación Primaria", "Ingeniería Civil", "Ingeniería de Sistemas",
+            "Ingeniería Electrónica", "Ingeniería Mecánica", "Ingeniería Ambiental", "Economía", "Marketing", "Negocios Internacionales",
+            "Ciencias de la Comunicación", "Turismo y Hotelería", "Gastronomía", "Enfermería", "Medicina Humana", "Odontología",
+            "Obstetricia", "Nutrición", "Farmacia y Bioquímica", "Biología", "Química", "Matemática", "Física", "Estadística",
+            "Ingeniería Agroindustrial", "Ingeniería de Minas", "Ingeniería Química", "Diseño Gráfico", "Diseño de Interiores",
+            "Ciencia Política", "Relaciones Internacionales", "Trabajo Social", "Sociología", "Antropología", "Historia", "Filosofía",
+            "Literatura", "Música", "Artes Plásticas", "Traducción e Interpretación", "Ingeniería de Telecomunicaciones"
+    };
+
+    private static final String[] TRAINING_AREAS = {"General", "Específica", "Especialidad", "Complementaria"};
+    private static final String[] COURSE_TYPES = {"Obligatorio", "Electivo"};
+    private static final String[] SUBJECTS = {
+            "Fundamentos", "Taller", "Seminario", "Metodología", "Análisis", "Diseño", "Gestión", "Introducción a", "Teoría de", "Práctica de"
+    };
+    private static final String[] TOPICS = {
+            "Sistemas", "Procesos", "Investigación", "Proyectos", "Calidad", "Ética Profesional", "Estadística Aplicada", "Innovación",
+            "Comunicación", "Datos", "Normativa", "Redes", "Costos", "Estrategia", "Evaluación", "Modelamiento", "Tecnología"
+    };
+    private static final String PARAGRAPH = "El estudiante analiza situaciones reales del entorno profesional, aplica los conceptos "
+            + "fundamentales de la asignatura con pensamiento crítico y creativo, trabaja de manera colaborativa y comunica sus "
+            + "resultados de forma oral y escrita con responsabilidad ética, social y ambiental. ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${sygsy.datagen.careers:40}")
+    private int careerCount;
+
+    @Value("${sygsy.datagen.professors:4000}")
+    private int professorCount;
+
+    @Value("${sygsy.datagen.periods:4}")
+    private int periodCount;
+
+    @Value("${sygsy.datagen.courses-per-career:150}")
+    private int coursesPerCareer;
+
+    @Value("${sygsy.datagen.text-paragraphs:12}")
+    private int textParagraphs;
+
+    @Value("${sygsy.datagen.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${sygsy.datagen.seed:42}")
+    private long seed;
+
+    @Value("${sygsy.datagen.output-dir:generated-data}")
+    private String outputDir;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM academic_periods WHERE name LIKE ?", Integer.class, PERIOD_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            log.info("Synthetic dataset already present ({} periods), skipping generation.", existing);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(seed);
+        List<String> careers = careerNames();
+        List<Course> catalog = catalog(careers, random);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertCareers(careers);
+            insertUsers(careers);
+            insertPeriods();
+            insertSyllabi(catalog, random);
+            insertUnitsAndEvaluations();
+        });
+        log.info("Synthetic dataset written in {} ms: {} careers, {} professors, {} periods, {} syllabi.",
+                System.currentTimeMillis() - start, careers.size(), professorCount, periodCount, catalog.size() * periodCount);
+
+        writeSpreadsheets(careers, catalog);
+    }
+
+    private List<String> careerNames() {
+        List<String> careers = new ArrayList<>();
+        for (int i = 0; i < careerCount; i++) {
+            String name = CAREER_NAMES[i % CAREER_NAMES.length];
+            careers.add(i < CAREER_NAMES.length ? name : name + " " + (i / CAREER_NAMES.length + 1));
+        }
+        return careers;
+    }
+
+    // One course catalog per career, reused in every period like the real semester rollover
+    private List<Course> catalog(List<String> careers, Random random) {
+        List<Course> catalog = new ArrayList<>();
+        for (int c = 0; c < careers.size(); c++) {
+            String prefix = slug(careers.get(c)).substring(0, 2).toUpperCase(Locale.ROOT) + String.format("%02d", c);
+            for (int n = 1; n <= coursesPerCareer; n++) {
+                int credits = 2 + random.nextInt(4);
+                int theory = 16 * (1 + random.nextInt(3));
+                int practice = 16 * (1 + random.nextInt(4));
+                String code = prefix + String.format("%04d", n);
+                catalog.add(new Course(
+                        c,
+                        careers.get(c),
+                        "Facultad de " + (c % 2 == 0 ? "Ingeniería" : "Ciencias y Humanidades"),
+                        String.valueOf(1 + (n - 1) * 10 / coursesPerCareer),
+                        credits, theory + practice, theory, practice,
+                        TRAINING_AREAS[random.nextInt(TRAINING_AREAS.length)],
+                        code,
+                        SUBJECTS[random.nextInt(SUBJECTS.length)] + " " + TOPICS[random.nextInt(TOPICS.length)] + " " + toRoman(1 + n % 4),
+                        COURSE_TYPES[random.nextInt(10) < 8 ? 0 : 1],
+                        n > 1 ? prefix + String.format("%04d", n - 1) : "Ninguno",
+                        professorEmail(random.nextInt(professorCount))));
+            }
+        }
+        return catalog;
+    }
+
+    private void insertCareers(List<String> careers) {
+        List<Object[]> rows = new ArrayList<>();
+        for (String career : careers) {
+            rows.add(new Object[]{career, career});
+        }
+        // Existing careers may differ only in case or accents, which normalized_name also rejects
+        jdbcTemplate.batchUpdate("INSERT INTO careers (name, normalized_name) VALUES (?, sygsy_normalize_career(?)) ON CONFLICT DO NOTHING", rows);
+    }
+
+    private void insertUsers(List<String> careers) {
+        // BCrypt is deliberately slow: hash once and share it, every generated user logs in with PASSWORD
+        String hash = passwordEncoder.encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO users (username, password, full_name, career, career_id, role, status, created, modified) "
+                + "VALUES (?, ?, ?, ?, (SELECT id FROM careers WHERE normalized_name = sygsy_normalize_career(?)), ?, 'ACTIVE', ?, ?) "
+                + "ON CONFLICT (username) DO NOTHING";
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < careers.size(); i++) {
+            rows.add(new Object[]{coordinatorEmail(i), hash, "Coordinador " + careers.get(i), careers.get(i), careers.get(i), "COORDINATOR", now, now});
+        }
+        for (int i = 0; i < professorCount; i++) {
+            rows.add(new Object[]{professorEmail(i), hash, "Docente Generado " + i, null, null, "PROFESSOR", now, now});
+        }
+        batch(sql, rows);
+    }
+
+    private void insertPeriods() {
+        // Periods belong to the admin when DataInitializer already ran, otherwise to the first coordinator
+        Long ownerId = jdbcTemplate.queryForObject("SELECT COALESCE((SELECT id FROM users WHERE username = 'admin@ulasalle.edu.pe'), "
+                + "(SELECT MIN(id) FROM users WHERE role = 'COORDINATOR'))", Long.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        LocalDate start = LocalDate.of(2023, 3, 20);
+        for (int p = 0; p < periodCount; p++) {
+            LocalDate periodStart = start.plusMonths(6L * p);
+            rows.add(new Object[]{periodName(p), periodStart, periodStart.plusWeeks(17), ownerId, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO academic_periods (name, start_date, end_date, coordinator_id, status, created, modified) "
+                + "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?)", rows);
+    }
+
+    private void insertSyllabi(List<Course> catalog, Random random) {
+        String text = PARAGRAPH.repeat(textParagraphs);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String[] statuses = {"CREATED", "ASSIGNED", "ASSIGNED", "SUBMITTED", "SUBMITTED", "APPROVED", "APPROVED", "APPROVED", "RETURNED"};
+
+        // Career, period, professor and coordinator ids are resolved in SQL from the natural keys
+        String sql = "INSERT INTO syllabi (faculty, career, career_id, academic_period_id, semester, credits, total_hours, theory_hours, practice_hours, "
+                + "training_area, course_code, course_name, course_type, prerequisites, professor_id, professor_email, coordinator_id, "
+                + "course_competence, profile_competence, previous_competence, sumilla, bibliography, activities, workflow_status, status, "
+                + "created_id, created, modified) "
+                + "VALUES (?, ?, (SELECT id FROM careers WHERE normalized_name = sygsy_normalize_career(?)), "
+                + "(SELECT id FROM academic_periods WHERE name = ?), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, "
+                + "(SELECT id FROM users WHERE username = ?), ?, (SELECT id FROM users WHERE username = ?), "
+                + "?, ?, ?, ?, ?, ?, ?, 'ACTIVE', (SELECT id FROM users WHERE username = ?), ?, ?)";
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int p = 0; p < periodCount; p++) {
+            boolean current = p == periodCount - 1;
+            for (Course course : catalog) {
+                String coordinator = coordinatorEmail(course.careerIndex());
+                // Older periods are closed (approved); the current one is spread across the workflow
+                String status = current ? statuses[random.nextInt(statuses.length)] : "APPROVED";
+                boolean filled = !"CREATED".equals(status) && !"ASSIGNED".equals(status);
+                rows.add(new Object[]{
+                        course.faculty(), course.career(), course.career(), periodName(p), course.semester(), course.credits(), course.totalHours(),
+                        course.theoryHours(), course.practiceHours(), course.trainingArea(), course.code(), course.name(), course.type(),
+                        course.prerequisites(), course.professorEmail(), course.professorEmail(), coordinator,
+                        filled ? text : null, filled ? text : null, filled ? text : null, filled ? text : null,
+                        filled ? text : null, filled ? text : null, status, coordinator, now, now});
+                if (rows.size() == batchSize) {
+                    jdbcTemplate.batchUpdate(sql, rows);
+                    rows.clear();
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    // Same structure as the global syllabus template (V5): 4 units and 6 evaluations, filled when the syllabus was submitted
+    private void insertUnitsAndEvaluations() {
+        String text = PARAGRAPH.repeat(Math.max(1, textParagraphs / 3));
+        String generated = "SELECT s.id, s.sumilla IS NOT NULL AS filled, s.created_id, p.start_date FROM syllabi s "
+                + "JOIN academic_periods p ON p.id = s.academic_period_id WHERE p.name LIKE '" + PERIOD_PREFIX + "%'";
+
+        jdbcTemplate.update("INSERT INTO syllabus_units (unit_number, title, start_date, end_date, content, week1content, week2content, "
+                + "week3content, week4content, methodology, syllabus_id, status, created_id, created, modified) "
+                + "SELECT n, 'UNIDAD ' || (ARRAY['I','II','III','IV'])[n], g.start_date + (n - 1) * 28, g.start_date + n * 28 - 1, "
+                + "CASE WHEN g.filled THEN ? END, CASE WHEN g.filled THEN ? END, CASE WHEN g.filled THEN ? END, "
+                + "CASE WHEN g.filled THEN ? END, CASE WHEN g.filled THEN ? END, CASE WHEN g.filled THEN ? END, "
+                + "g.id, 'ACTIVE', g.created_id, now(), now() FROM (" + generated + ") g CROSS JOIN generate_series(1, 4) n",
+                text, text, text, text, text, text);
+
+        jdbcTemplate.update("INSERT INTO evaluations (name, weight, consolidation_date, description, syllabus_id, status, created_id, created, modified) "
+                + "SELECT e.name, e.weight, CASE WHEN g.filled THEN g.start_date + e.week * 7 END, CASE WHEN g.filled THEN ? END, "
+                + "g.id, 'ACTIVE', g.created_id, now(), now() FROM (" + generated + ") g CROSS JOIN (VALUES "
+                + "(1, 'EVIDENCIA 1', 0.10, 4), (2, 'EVIDENCIA 2', 0.10, 7), (3, 'EXAMEN PARCIAL', 0.30, 9), "
+                + "(4, 'EVIDENCIA 3', 0.10, 12), (5, 'EVIDENCIA 4', 0.10, 15), (6, 'EXAMEN FINAL', 0.30, 17)) "
+                + "AS e(position, name, weight, week) ORDER BY g.id, e.position",
+                text);
+    }
+
+    // Same 14-column layout ExcelService reads: one file per career plus the full catalog
+    private void writeSpreadsheets(List<String> careers, List<Course> catalog) throws IOException {
+        Path dir = Paths.get(outputDir);
+        Files.createDirectories(dir);
+        for (String career : careers) {
+            writeSpreadsheet(dir.resolve(slug(career) + ".xlsx"), catalog.stream().filter(c -> c.career().equals(career)).toList());
+        }
+        writeSpreadsheet(dir.resolve("catalogo_completo.xlsx"), catalog);
+        log.info("Spreadsheets written to {}", dir.toAbsolutePath());
+    }
+
+    private void writeSpreadsheet(Path file, List<Course> courses) throws IOException {
+        String period = periodName(periodCount - 1);
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+             OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Sílabos");
+            String[] header = {"Facultad", "Carrera", "Periodo", "Semestre", "Créditos", "Horas Totales", "Horas Teoría",
+                    "Horas Práctica", "Área de Formación", "Código", "Curso", "Tipo", "Prerrequisitos", "Correo Docente"};
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < header.length; i++) {
+                headerRow.createCell(i).setCellValue(header[i]);
+            }
+            int r = 1;
+            for (Course course : courses) {
+                Row row = sheet.createRow(r++);
+                row.createCell(0).setCellValue(course.faculty());
+                row.createCell(1).setCellValue(course.career());
+                row.createCell(2).setCellValue(period);
+                row.createCell(3).setCellValue(course.semester());
+                row.createCell(4).setCellValue(course.credits());
+                row.createCell(5).setCellValue(course.totalHours());
+                row.createCell(6).setCellValue(course.theoryHours());
+                row.createCell(7).setCellValue(course.practiceHours());
+                row.createCell(8).setCellValue(course.trainingArea());
+                row.createCell(9).setCellValue(course.code());
+                row.createCell(10).setCellValue(course.name());
+                row.createCell(11).setCellValue(course.type());
+                row.createCell(12).setCellValue(course.prerequisites());
+                row.createCell(13).setCellValue(course.professorEmail());
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    static String professorEmail(int index) {
+        return "gen.docente" + index + "@ulasalle.edu.pe";
+    }
+
+    static String coordinatorEmail(int careerIndex) {
+        return "gen.coordinador" + careerIndex + "@ulasalle.edu.pe";
+    }
+
+    private static String periodName(int index) {
+        return PERIOD_PREFIX + (2023 + index / 2) + (index % 2 == 0 ? "-I" : "-II");
+    }
+
+    private static String slug(String value) {
+        String ascii = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return ascii.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+    }
+
+    private static String toRoman(int number) {
+        return switch (number) {
+            case 1 -> "I";
+            case 2 -> "II";
+            case 3 -> "III";
+            default -> "IV";
+        };
+    }
+
+    private record Course(int careerIndex, String career, String faculty, String semester, int credits, int totalHours, int theoryHours,
+                          int practiceHours, String trainingArea, String code, String name, String type, String prerequisites,
+                          String professorEmail) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.sygsy.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor for the application's own parallel work (today: the sheets of a bulk import). It follows
+ * spring.threads.virtual.enabled like Tomcat does: with virtual threads every task gets its own
+ * virtual thread and the parallelism is a concurrency limit; otherwise it is a fixed platform pool.
+ * In both modes at most sygsy.jobs.parallelism tasks run at once, so jobs cannot drain the
+ * connection pool that serves requests.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    public AsyncTaskExecutor jobExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                         @Value("${sygsy.jobs.parallelism:4}") int parallelism) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("job-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(parallelism);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("job-");
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 100);
+        // When saturated the submitting request does the work itself instead of failing
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Boot's own executor, declared here because any Executor bean (jobExecutor) makes Boot skip it,
+     * and MVC async requests (StreamingResponseBody exports, JFR dumps, import dry runs) would fall
+     * back to an unbounded SimpleAsyncTaskExecutor. Built by Boot's builders, so it keeps the
+     * spring.task.execution.* settings and uses virtual threads when those are enabled.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                     ThreadPoolTaskExecutorBuilder threadPoolBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder simpleBuilder) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            return simpleBuilder.build();
+        }
+        return threadPoolBuilder.build();
+    }
+}
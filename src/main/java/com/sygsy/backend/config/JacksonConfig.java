@@ -0,0 +1,16 @@
+package com.sygsy.backend.config;
+
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Associations are LAZY and open-in-view is off: serialize Hibernate proxies as their target
+    // and leave anything a fetch plan did not load as null instead of failing the response.
+    @Bean
+    public Hibernate6Module hibernate6Module() {
+        return new Hibernate6Module();
+    }
+}
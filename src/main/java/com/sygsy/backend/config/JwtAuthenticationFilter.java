@@ -1,6 +1,9 @@
 package com.sygsy.backend.config;
 
+import com.sygsy.backend.jfr.JwtVerificationEvent;
 import com.sygsy.backend.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,16 +17,30 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        // Only the token parsing/signature checks are timed, not the user lookup in between
+        this.validTokenTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = verificationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("sygsy.jwt.verification")
+                .description("JWT parsing and signature verification per request")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -34,24 +51,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String username = null;
         String jwt = null;
+        long verificationNanos = 0;
+        long lookupNanos = 0;
+        Timer verificationOutcome = null;
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
 
         // Extract JWT from Authorization header
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
+            long start = System.nanoTime();
             try {
                 username = jwtUtil.extractUsername(jwt);
             } catch (Exception e) {
                 // Invalid token, will be handled by security context
                 logger.error("Error extracting username from JWT: " + e.getMessage());
+                verificationOutcome = invalidTokenTimer;
             }
+            verificationNanos += System.nanoTime() - start;
         }
 
         // Validate token and set authentication
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
+                long lookupStart = System.nanoTime();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                lookupNanos = System.nanoTime() - lookupStart;
+
+                long start = System.nanoTime();
+                boolean valid = jwtUtil.validateToken(jwt, userDetails.getUsername());
+                verificationNanos += System.nanoTime() - start;
+                verificationOutcome = valid ? validTokenTimer : invalidTokenTimer;
 
-                if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+                if (valid) {
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -67,6 +99,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
+        if (verificationOutcome != null) {
+            verificationOutcome.record(verificationNanos, TimeUnit.NANOSECONDS);
+            event.end();
+            if (event.shouldCommit()) {
+                event.username = username;
+                event.valid = verificationOutcome == validTokenTimer;
+                event.verifyNanos = verificationNanos;
+                event.lookupNanos = lookupNanos;
+                event.commit();
+            }
+        }
+
         filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,25 @@
+package com.sygsy.backend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Upper bound of database work a single call to the annotated endpoint may do, checked by
+ * QueryBudgetTest against a seeded database. Keeps N+1 patterns from coming back:
+ * the limits are constants, so anything that grows with the number of rows breaks them.
+ * A negative value means "not checked" (e.g. entity loads of a list naturally grow with its size).
+ * Only statements Hibernate prepares are counted; the set-based writes run through JdbcTemplate
+ * (SyllabusUpsertRepository) are not.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+
+    int entityLoads() default -1;
+
+    int collectionFetches() default -1;
+}
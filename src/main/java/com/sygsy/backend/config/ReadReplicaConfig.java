@@ -0,0 +1,79 @@
+package com.sygsy.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends @Transactional(readOnly = true) work to a read replica and everything else to the primary.
+ * Only active when sygsy.datasource.replica.url is non-empty; otherwise Spring Boot's single pool is used.
+ *
+ * LazyConnectionDataSourceProxy does the routing: the transaction manager marks the connection
+ * read-only before the first statement, and only then is a physical connection taken from the
+ * replica pool instead of the primary one. Repository calls outside a service transaction follow
+ * Spring Data's defaults (CRUD finders are read-only, @Query methods are not). Reads right after
+ * a write may see replication lag, so read-modify-write paths stay in read-write transactions.
+ */
+@Configuration
+// Not @ConditionalOnProperty: the property defaults to an empty REPLICA_DATABASE_URL, which it would accept
+@ConditionalOnExpression("!'${sygsy.datasource.replica.url:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    // The pools are not beans on purpose: only the routing proxy is, so SqlProfilerConfig wraps it once
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                 @Value("${sygsy.datasource.replica.url}") String replicaUrl,
+                                 @Value("${sygsy.datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+                                 @Value("${sygsy.datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+                                 @Value("${sygsy.datasource.replica.maximum-pool-size:10}") int replicaPoolSize) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("sygsy-primary");
+        }
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("sygsy-replica");
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+        // Boot only binds pool metrics for the DataSource bean it can unwrap (the primary)
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return new RoutingDataSource(primary, replica);
+    }
+
+    // close() is picked up as the bean's destroy method, so both pools shut down with the context
+    static final class RoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final HikariDataSource primary;
+        private final HikariDataSource replica;
+
+        private RoutingDataSource(HikariDataSource primary, HikariDataSource replica) {
+            super(primary);
+            setReadOnlyDataSource(replica);
+            this.primary = primary;
+            this.replica = replica;
+        }
+
+        @Override
+        public void close() {
+            replica.close();
+            primary.close();
+        }
+    }
+}
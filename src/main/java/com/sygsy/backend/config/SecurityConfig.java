@@ -1,6 +1,7 @@
 package com.sygsy.backend.config;
 
 import com.sygsy.backend.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,7 +45,9 @@ public class SecurityConfig {
                     return corsConfiguration;
                 }))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE re-dispatch, already authorized on the initial request
                         .requestMatchers("/api/auth/login").permitAll() // Only login is public
+                        .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll() // Management port only, for probes and scraping
                         .anyRequest().authenticated() // Everything else requires authentication
                 )
                 .sessionManagement(session -> session
@@ -0,0 +1,101 @@
+package com.sygsy.backend.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * datasource-proxy listener that attributes every JDBC execution to the HTTP request running on the
+ * current thread (see SqlProfilingFilter). Work outside a request (startup, schedulers) is ignored.
+ */
+public class SqlProfiler implements QueryExecutionListener {
+
+    private static final ThreadLocal<Profile> CURRENT = new ThreadLocal<>();
+
+    static Profile begin() {
+        Profile profile = new Profile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Profile profile = CURRENT.get();
+        if (profile != null) {
+            profile.startedAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Profile profile = CURRENT.get();
+        if (profile == null || profile.startedAt == 0) return;
+        long elapsed = System.nanoTime() - profile.startedAt;
+        profile.startedAt = 0;
+        // A JDBC batch is one round trip: count it once, under its first statement
+        String sql = queryInfoList.isEmpty() ? "?" : queryInfoList.get(0).getQuery();
+        profile.record(sql, elapsed, execInfo.isBatch() ? execInfo.getBatchSize() : 1);
+    }
+
+    /**
+     * Statements of one request, grouped by SQL text. Only touched by the request thread.
+     */
+    static final class Profile {
+
+        private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+        private final Map<String, StatementStats> bySql = new HashMap<>();
+        private long startedAt;
+        private int statements;
+        private long jdbcNanos;
+
+        private void record(String sql, long nanos, int rows) {
+            statements++;
+            jdbcNanos += nanos;
+            StatementStats stats = bySql.get(sql);
+            if (stats == null) {
+                if (bySql.size() >= MAX_DISTINCT_STATEMENTS) return;
+                stats = new StatementStats(sql);
+                bySql.put(sql, stats);
+            }
+            stats.executions++;
+            stats.batchedRows += rows;
+            stats.nanos += nanos;
+        }
+
+        int getStatements() {
+            return statements;
+        }
+
+        long getJdbcNanos() {
+            return jdbcNanos;
+        }
+
+        List<StatementStats> top(int limit) {
+            List<StatementStats> sorted = new ArrayList<>(bySql.values());
+            sorted.sort(Comparator.comparingLong((StatementStats s) -> s.nanos).reversed());
+            return sorted.subList(0, Math.min(limit, sorted.size()));
+        }
+    }
+
+    static final class StatementStats {
+        final String sql;
+        int executions;
+        int batchedRows;
+        long nanos;
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.sygsy.backend.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the DataSource in a datasource-proxy so SqlProfiler sees every statement. Replaces
+ * spring.jpa.show-sql, which printed every statement to stdout without any per-request context.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sygsy.sql-profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilerConfig {
+
+    // Static: BeanPostProcessors must not force early initialization of this configuration class
+    @Bean
+    public static BeanPostProcessor sqlProfilerDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlProfiler())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package com.sygsy.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Per-request SQL profile: number of statements and JDBC time (from SqlProfiler) are returned as a
+ * Server-Timing header, visible in the browser devtools, and requests slower than the threshold
+ * are written to the "sygsy.slow-requests" log with their most expensive statements. The header is
+ * added when the response starts being written, so it covers the SQL of the controller, not of
+ * lazy loading during serialization (which open-in-view=false rules out anyway).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // Before security, so the JWT user lookup is included
+@ConditionalOnProperty(name = "sygsy.sql-profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("sygsy.slow-requests");
+
+    private final long slowRequestMillis;
+    private final int topStatements;
+
+    public SqlProfilingFilter(@Value("${sygsy.sql-profiler.slow-request-ms:1000}") long slowRequestMillis,
+                              @Value("${sygsy.sql-profiler.top-statements:5}") int topStatements) {
+        this.slowRequestMillis = slowRequestMillis;
+        this.topStatements = topStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        SqlProfiler.Profile profile = SqlProfiler.begin();
+        ServerTimingResponse wrapper = new ServerTimingResponse(response, profile, start);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            SqlProfiler.end();
+            wrapper.addServerTiming();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (elapsedMillis >= slowRequestMillis) {
+                logSlowRequest(request, response, profile, elapsedMillis);
+            }
+        }
+    }
+
+    // One line of key=value pairs so it can be grepped or parsed by the log shipper
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, SqlProfiler.Profile profile, long elapsedMillis) {
+        StringBuilder line = new StringBuilder()
+                .append("slow_request method=").append(request.getMethod())
+                .append(" uri=").append(request.getRequestURI())
+                .append(" status=").append(response.getStatus())
+                .append(" duration_ms=").append(elapsedMillis)
+                .append(" statements=").append(profile.getStatements())
+                .append(" jdbc_ms=").append(String.format(Locale.ROOT, "%.1f", profile.getJdbcNanos() / 1e6))
+                .append(" user=").append(request.getUserPrincipal() != null ? request.getUserPrincipal().getName() : "-");
+        int rank = 1;
+        for (SqlProfiler.StatementStats stats : profile.top(topStatements)) {
+            line.append(String.format(Locale.ROOT, " top%d_ms=%.1f top%d_count=%d top%d_sql=\"%s\"",
+                    rank, stats.nanos / 1e6, rank, stats.executions, rank, abbreviate(stats.sql)));
+            rank++;
+        }
+        slowLog.warn(line.toString());
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").replace('"', '\'');
+        return compact.length() > 300 ? compact.substring(0, 300) + "..." : compact;
+    }
+
+    /**
+     * Adds Server-Timing just before the response is committed, which is the last moment headers can change.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlProfiler.Profile profile;
+        private final long start;
+        private boolean added;
+
+        private ServerTimingResponse(HttpServletResponse response, SqlProfiler.Profile profile, long start) {
+            super(response);
+            this.profile = profile;
+            this.start = start;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+
+        private void addServerTiming() {
+            if (added || isCommitted()) return;
+            added = true;
+            addHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\", app;dur=%.1f",
+                    profile.getJdbcNanos() / 1e6, profile.getStatements(), (System.nanoTime() - start) / 1e6));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.sygsy.backend.controller;
 
+import com.sygsy.backend.config.QueryBudget;
 import com.sygsy.backend.domain.AcademicPeriod;
 import com.sygsy.backend.dto.CreateAcademicPeriodDTO;
+import com.sygsy.backend.dto.PeriodCloneResultDTO;
 import com.sygsy.backend.service.AcademicPeriodService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +25,7 @@ public class AcademicPeriodController {
 
     @PostMapping
     @PreAuthorize("hasRole('COORDINATOR')") // Only coordinators can create academic periods
+    @QueryBudget(statements = 3, entityLoads = 2)
     public ResponseEntity<AcademicPeriod> createAcademicPeriod(
             @RequestBody CreateAcademicPeriodDTO dto,
             Authentication authentication) {
@@ -31,19 +34,34 @@ public class AcademicPeriodController {
     }
 
     @GetMapping
+    @QueryBudget(statements = 1, collectionFetches = 0)
     public ResponseEntity<List<AcademicPeriod>> getAllAcademicPeriods() {
         return ResponseEntity.ok(academicPeriodService.getAllAcademicPeriods());
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1, entityLoads = 2, collectionFetches = 0)
     public ResponseEntity<AcademicPeriod> getAcademicPeriod(@PathVariable Long id) {
         return ResponseEntity.ok(academicPeriodService.getAcademicPeriod(id));
     }
 
     @GetMapping("/my-periods")
     @PreAuthorize("hasRole('COORDINATOR')") // Only coordinators can see their periods
+    @QueryBudget(statements = 2, collectionFetches = 0)
     public ResponseEntity<List<AcademicPeriod>> getMyAcademicPeriods(Authentication authentication) {
         String coordinatorUsername = authentication.getName();
         return ResponseEntity.ok(academicPeriodService.getAcademicPeriodsByCoordinator(coordinatorUsername));
     }
+
+    // Semester rollover: copies the catalog of sourceId into this period (see AcademicPeriodService.cloneFrom)
+    @PostMapping("/{id}/clone-from/{sourceId}")
+    @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 7, entityLoads = 4)
+    public ResponseEntity<PeriodCloneResultDTO> cloneFrom(
+            @PathVariable Long id,
+            @PathVariable Long sourceId,
+            @RequestParam(defaultValue = "false") boolean withContent,
+            Authentication authentication) {
+        return ResponseEntity.ok(academicPeriodService.cloneFrom(id, sourceId, withContent, authentication.getName()));
+    }
 }
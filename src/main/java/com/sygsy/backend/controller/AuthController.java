@@ -1,14 +1,20 @@
 package com.sygsy.backend.controller;
 
+import com.sygsy.backend.config.QueryBudget;
 import com.sygsy.backend.config.JwtUtil;
+import com.sygsy.backend.domain.Career;
 import com.sygsy.backend.domain.User;
 import com.sygsy.backend.dto.LoginRequest;
 import com.sygsy.backend.dto.LoginResponse;
 import com.sygsy.backend.repository.UserRepository;
+import com.sygsy.backend.service.CareerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,23 +31,37 @@ public class AuthController {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+    private final CareerService careerService;
 
-    public AuthController(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public AuthController(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, JwtUtil jwtUtil, MeterRegistry meterRegistry, CareerService careerService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.meterRegistry = meterRegistry;
+        this.careerService = careerService;
     }
 
     @PostMapping("/login")
+    @QueryBudget(statements = 2, entityLoads = 2)
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
+        // Login latency is dominated by BCrypt, so failures are timed separately
+        Timer.Sample sample = Timer.start(meterRegistry);
+
         // Authenticate user
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            loginRequest.getUsername(),
+                            loginRequest.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            sample.stop(loginTimer("failure"));
+            throw e;
+        }
 
         // Get user details
         User user = userRepository.findByUsername(loginRequest.getUsername())
@@ -50,6 +70,8 @@ public class AuthController {
         // Generate JWT token
         String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
 
+        sample.stop(loginTimer("success"));
+
         // Build response
         return ResponseEntity.ok(LoginResponse.builder()
                 .token(token)
@@ -61,6 +83,14 @@ public class AuthController {
                 .build());
     }
 
+    private Timer loginTimer(String outcome) {
+        return Timer.builder("sygsy.auth.login")
+                .description("Login latency (authentication + token generation)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     @PostMapping("/register")
     @PreAuthorize("hasRole('COORDINATOR')") // Only coordinators can create users
     public ResponseEntity<User> register(@RequestBody User user) {
@@ -69,6 +99,7 @@ public class AuthController {
             throw new RuntimeException("User already exists");
         }
         
+        assignCareer(user);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setStatus("ACTIVE");
         return ResponseEntity.ok(userRepository.save(user));
@@ -89,6 +120,7 @@ public class AuthController {
                 continue; 
             }
             
+            assignCareer(user);
             user.setPassword(passwordEncoder.encode(user.getPassword()));
             user.setStatus("ACTIVE");
             savedUsers.add(userRepository.save(user));
@@ -96,4 +128,11 @@ public class AuthController {
         
         return ResponseEntity.ok(savedUsers);
     }
+
+    // The career arrives as a name; store the catalog id and spelling (unknown careers are rejected)
+    private void assignCareer(User user) {
+        Career career = careerService.resolve(user.getCareer());
+        user.setCareer(career != null ? career.getName() : null);
+        user.setCareerId(career != null ? career.getId() : null);
+    }
 }
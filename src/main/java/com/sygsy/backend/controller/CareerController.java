@@ -1,5 +1,6 @@
 package com.sygsy.backend.controller;
 
+import com.sygsy.backend.config.QueryBudget;
 import com.sygsy.backend.domain.Career;
 import com.sygsy.backend.service.CareerService;
 import lombok.RequiredArgsConstructor;
@@ -21,12 +22,14 @@ public class CareerController {
     }
 
     @GetMapping
+    @QueryBudget(statements = 1, collectionFetches = 0)
     public ResponseEntity<List<Career>> getAllCareers() {
         return ResponseEntity.ok(careerService.getAllCareers());
     }
 
     @PostMapping
     @PreAuthorize("hasRole('COORDINATOR')") // Assuming Admin is a Coordinator without career (or specific Admin role if we had one)
+    @QueryBudget(statements = 2, entityLoads = 0)
     public ResponseEntity<Career> createCareer(@RequestBody Map<String, String> body) {
         String name = body.get("name");
         return ResponseEntity.ok(careerService.createCareer(name));
@@ -34,6 +37,7 @@ public class CareerController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 4, entityLoads = 1)
     public ResponseEntity<Void> deleteCareer(@PathVariable Long id) {
         careerService.deleteCareer(id);
         return ResponseEntity.noContent().build();
@@ -0,0 +1,121 @@
+package com.sygsy.backend.controller;
+
+import com.sygsy.backend.config.QueryBudget;
+import com.sygsy.backend.domain.ImportUpload;
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.dto.ImportResultDTO;
+import com.sygsy.backend.dto.UploadSessionDTO;
+import com.sygsy.backend.service.ChunkedUploadService;
+import com.sygsy.backend.service.ImportDryRunService;
+import com.sygsy.backend.service.SyllabusImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Chunked alternative to upload-bulk / upsert-bulk for workbooks above the multipart limit:
+ * POST to start, PUT each chunk as a raw body at its offset, GET to learn where to resume,
+ * then POST .../upload-bulk or .../upsert-bulk to import the assembled file (with dryRun=true,
+ * only to check it).
+ */
+@RestController
+@RequestMapping("/api/syllabi/uploads")
+@PreAuthorize("hasRole('COORDINATOR')")
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+    private final SyllabusImportService syllabusImportService;
+    private final ImportDryRunService importDryRunService;
+
+    public ChunkedUploadController(ChunkedUploadService chunkedUploadService, SyllabusImportService syllabusImportService,
+                                   ImportDryRunService importDryRunService) {
+        this.chunkedUploadService = chunkedUploadService;
+        this.syllabusImportService = syllabusImportService;
+        this.importDryRunService = importDryRunService;
+    }
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDTO> init(
+            @RequestParam String fileName,
+            @RequestParam long totalSize,
+            Authentication authentication) {
+        return ResponseEntity.ok(chunkedUploadService.init(authentication.getName(), fileName, totalSize));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UploadSessionDTO> status(@PathVariable String id, Authentication authentication) {
+        return ResponseEntity.ok(chunkedUploadService.status(id, authentication.getName()));
+    }
+
+    @PutMapping(value = "/{id}", consumes = "application/octet-stream")
+    public ResponseEntity<UploadSessionDTO> append(
+            @PathVariable String id,
+            @RequestParam long offset,
+            InputStream body,
+            Authentication authentication) {
+        return ResponseEntity.ok(chunkedUploadService.append(id, authentication.getName(), offset, body));
+    }
+
+    // Same budgets as the multipart upload-bulk and upsert-bulk
+    @PostMapping("/{id}/upload-bulk")
+    @QueryBudget(statements = 13, collectionFetches = 2)
+    public ResponseEntity<List<Syllabus>> importUpload(
+            @PathVariable String id,
+            @RequestParam Long academicPeriodId,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(chunkedUploadService.complete(id, username,
+                file -> syllabusImportService.importSyllabi(file, academicPeriodId, username)));
+    }
+
+    @PostMapping("/{id}/upsert-bulk")
+    @QueryBudget(statements = 9, collectionFetches = 0)
+    public ResponseEntity<ImportResultDTO> upsertUpload(
+            @PathVariable String id,
+            @RequestParam Long academicPeriodId,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(chunkedUploadService.complete(id, username,
+                file -> syllabusImportService.upsertSyllabi(file, academicPeriodId, username)));
+    }
+
+    // Checks the assembled file without importing it; the upload stays open for the real import
+    @PostMapping(value = "/{id}/upload-bulk", params = "dryRun=true")
+    public ResponseEntity<StreamingResponseBody> importUploadDryRun(
+            @PathVariable String id,
+            @RequestParam Long academicPeriodId,
+            Authentication authentication) {
+        return dryRun(id, academicPeriodId, authentication.getName(), ImportUpload.Mode.INSERT);
+    }
+
+    @PostMapping(value = "/{id}/upsert-bulk", params = "dryRun=true")
+    public ResponseEntity<StreamingResponseBody> upsertUploadDryRun(
+            @PathVariable String id,
+            @RequestParam Long academicPeriodId,
+            Authentication authentication) {
+        return dryRun(id, academicPeriodId, authentication.getName(), ImportUpload.Mode.UPSERT);
+    }
+
+    private ResponseEntity<StreamingResponseBody> dryRun(String id, Long academicPeriodId, String username, ImportUpload.Mode mode) {
+        UploadSessionDTO upload = chunkedUploadService.status(id, username);
+        if (!upload.isComplete()) {
+            throw new RuntimeException("Upload is incomplete: " + upload.getOffset() + " of " + upload.getTotalSize() + " bytes received");
+        }
+        importDryRunService.checkAccess(academicPeriodId, username);
+        StreamingResponseBody body = out -> chunkedUploadService.read(id, username,
+                file -> importDryRunService.report(file, academicPeriodId, username, mode, out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> abort(@PathVariable String id, Authentication authentication) {
+        chunkedUploadService.abort(id, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+}
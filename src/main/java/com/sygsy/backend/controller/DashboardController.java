@@ -0,0 +1,30 @@
+package com.sygsy.backend.controller;
+
+import com.sygsy.backend.config.QueryBudget;
+import com.sygsy.backend.dto.DashboardStatsDTO;
+import com.sygsy.backend.service.DashboardStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardStatsService dashboardStatsService;
+
+    public DashboardController(DashboardStatsService dashboardStatsService) {
+        this.dashboardStatsService = dashboardStatsService;
+    }
+
+    @GetMapping("/stats")
+    @QueryBudget(statements = 2, entityLoads = 1, collectionFetches = 0)
+    public ResponseEntity<DashboardStatsDTO> getStats(
+            Authentication authentication,
+            @RequestParam(required = false) Long academicPeriodId) {
+        return ResponseEntity.ok(dashboardStatsService.getStats(authentication.getName(), academicPeriodId));
+    }
+}
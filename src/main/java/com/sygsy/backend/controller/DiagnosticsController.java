@@ -0,0 +1,65 @@
+package com.sygsy.backend.controller;
+
+import com.sygsy.backend.config.QueryBudget;
+import com.sygsy.backend.service.FlightRecordingService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/jfr")
+@PreAuthorize("hasRole('COORDINATOR')") // Admin (coordinator without career) is checked in the service
+public class DiagnosticsController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    public DiagnosticsController(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @PostMapping("/start")
+    @QueryBudget(statements = 1, collectionFetches = 0)
+    public ResponseEntity<Map<String, Object>> start(
+            Authentication authentication,
+            @RequestParam(defaultValue = "default") String settings,
+            @RequestParam(required = false) Long durationMinutes) {
+        return ResponseEntity.ok(flightRecordingService.start(authentication.getName(), settings, durationMinutes));
+    }
+
+    @GetMapping("/status")
+    @QueryBudget(statements = 1, collectionFetches = 0)
+    public ResponseEntity<Map<String, Object>> status(Authentication authentication) {
+        return ResponseEntity.ok(flightRecordingService.status(authentication.getName()));
+    }
+
+    // Recordings can be hundreds of MB: stream the dump and delete it afterwards
+    @PostMapping("/stop")
+    @QueryBudget(statements = 1, collectionFetches = 0)
+    public ResponseEntity<StreamingResponseBody> stop(Authentication authentication) throws java.io.IOException {
+        Path file = flightRecordingService.stop(authentication.getName());
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getFileName())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .body(body);
+    }
+}
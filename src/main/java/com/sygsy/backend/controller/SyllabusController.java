@@ -1,14 +1,27 @@
 package com.sygsy.backend.controller;
 
+import com.sygsy.backend.config.QueryBudget;
+import com.sygsy.backend.domain.AcademicPeriod;
+import com.sygsy.backend.domain.ImportUpload;
 import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.dto.BulkStatusResultDTO;
+import com.sygsy.backend.dto.BulkStatusUpdateDTO;
+import com.sygsy.backend.dto.ImportResultDTO;
+import com.sygsy.backend.service.ImportDryRunService;
+import com.sygsy.backend.service.ImportFile;
+import com.sygsy.backend.service.SyllabusEventBroadcaster;
+import com.sygsy.backend.service.SyllabusImportService;
 import com.sygsy.backend.service.SyllabusService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,15 +30,22 @@ import java.util.List;
 public class SyllabusController {
 
     private final SyllabusService syllabusService;
+    private final SyllabusImportService syllabusImportService;
+    private final ImportDryRunService importDryRunService;
     private final com.sygsy.backend.service.PdfService pdfService;
+    private final SyllabusEventBroadcaster syllabusEventBroadcaster;
 
-    public SyllabusController(SyllabusService syllabusService, com.sygsy.backend.service.PdfService pdfService) {
+    public SyllabusController(SyllabusService syllabusService, SyllabusImportService syllabusImportService, ImportDryRunService importDryRunService, com.sygsy.backend.service.PdfService pdfService, SyllabusEventBroadcaster syllabusEventBroadcaster) {
         this.syllabusService = syllabusService;
+        this.syllabusImportService = syllabusImportService;
+        this.importDryRunService = importDryRunService;
         this.pdfService = pdfService;
+        this.syllabusEventBroadcaster = syllabusEventBroadcaster;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('COORDINATOR')") // Only coordinators can create syllabi
+    @QueryBudget(statements = 15, entityLoads = 3, collectionFetches = 0)
     public ResponseEntity<Syllabus> createSyllabus(
             @RequestBody com.sygsy.backend.dto.CreateSyllabusDTO dto,
             Authentication authentication) {
@@ -44,20 +64,64 @@ public class SyllabusController {
         return ResponseEntity.ok(syllabusService.updateSyllabusFromExcel(id, file, username));
     }
 
+    // Entity loads grow with the rows of the sheet and are not checked
     @PostMapping("/upload-bulk")
     @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 13, collectionFetches = 2)
     public ResponseEntity<List<Syllabus>> uploadBulk(
             @RequestParam("file") MultipartFile file,
             @RequestParam("academicPeriodId") Long academicPeriodId,
             Authentication authentication
     ) {
         String coordinatorUsername = authentication.getName();
-        return ResponseEntity.ok(syllabusService.importSyllabiFromExcel(file, academicPeriodId, coordinatorUsername));
+        return ResponseEntity.ok(syllabusImportService.importSyllabi(ImportFile.of(file), academicPeriodId, coordinatorUsername));
+    }
+
+    // Same sheet layout as upload-bulk; rows whose course code already exists in the period are updated
+    @PostMapping("/upsert-bulk")
+    @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 9, collectionFetches = 0)
+    public ResponseEntity<ImportResultDTO> upsertBulk(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("academicPeriodId") Long academicPeriodId,
+            Authentication authentication
+    ) {
+        String coordinatorUsername = authentication.getName();
+        return ResponseEntity.ok(syllabusImportService.upsertSyllabi(ImportFile.of(file), academicPeriodId, coordinatorUsername));
+    }
+
+    // ?dryRun=true on either bulk import: every row is checked and nothing is written. The report is
+    // streamed as NDJSON, one line per row and a summary line at the end.
+    @PostMapping(value = "/upload-bulk", params = "dryRun=true")
+    @PreAuthorize("hasRole('COORDINATOR')")
+    public ResponseEntity<StreamingResponseBody> uploadBulkDryRun(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("academicPeriodId") Long academicPeriodId,
+            Authentication authentication
+    ) {
+        return dryRun(ImportFile.of(file), academicPeriodId, authentication.getName(), ImportUpload.Mode.INSERT);
+    }
+
+    @PostMapping(value = "/upsert-bulk", params = "dryRun=true")
+    @PreAuthorize("hasRole('COORDINATOR')")
+    public ResponseEntity<StreamingResponseBody> upsertBulkDryRun(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("academicPeriodId") Long academicPeriodId,
+            Authentication authentication
+    ) {
+        return dryRun(ImportFile.of(file), academicPeriodId, authentication.getName(), ImportUpload.Mode.UPSERT);
+    }
+
+    private ResponseEntity<StreamingResponseBody> dryRun(ImportFile file, Long academicPeriodId, String username, ImportUpload.Mode mode) {
+        importDryRunService.checkAccess(academicPeriodId, username);
+        StreamingResponseBody body = out -> importDryRunService.report(file, academicPeriodId, username, mode, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{id}/pdf")
+    @QueryBudget(statements = 2, entityLoads = 13, collectionFetches = 1)
     public ResponseEntity<byte[]> downloadPdf(@PathVariable Long id) {
-        Syllabus syllabus = syllabusService.getSyllabus(id);
+        Syllabus syllabus = syllabusService.getSyllabusForPdf(id);
         byte[] pdfBytes = pdfService.generateSyllabusPdf(syllabus);
 
         return ResponseEntity.ok()
@@ -66,7 +130,25 @@ public class SyllabusController {
                 .body(pdfBytes);
     }
 
+    // Same 14-column layout as upload-bulk; rows are written while they are read from the database
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 2, entityLoads = 3)
+    public ResponseEntity<StreamingResponseBody> exportExcel(
+            @RequestParam Long academicPeriodId,
+            Authentication authentication) {
+        String username = authentication.getName();
+        AcademicPeriod period = syllabusService.getExportPeriod(academicPeriodId, username);
+        StreamingResponseBody body = out -> syllabusService.exportSyllabi(academicPeriodId, username, out);
+        String fileName = "silabos_" + period.getName().replaceAll("[^A-Za-z0-9_-]", "_") + ".xlsx";
+        return ResponseEntity.ok()
+                .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(body);
+    }
+
     @GetMapping
+    @QueryBudget(statements = 4)
     public ResponseEntity<List<Syllabus>> listSyllabi(
             Authentication authentication,
             @RequestParam(required = false) Syllabus.SyllabusStatus status) {
@@ -85,17 +167,26 @@ public class SyllabusController {
         return ResponseEntity.ok(syllabi);
     }
 
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(Authentication authentication) {
+        // Pushes status changes and assignments filtered by the caller's role and career
+        return syllabusEventBroadcaster.subscribe(authentication.getName());
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(statements = 2, entityLoads = 15, collectionFetches = 1)
     public ResponseEntity<Syllabus> getSyllabus(@PathVariable Long id) {
         return ResponseEntity.ok(syllabusService.getSyllabus(id));
     }
 
     @PutMapping("/{id}")
+    @QueryBudget(statements = 15, entityLoads = 15, collectionFetches = 1)
     public ResponseEntity<Syllabus> updateSyllabus(@PathVariable Long id, @RequestBody Syllabus syllabus) {
         return ResponseEntity.ok(syllabusService.updateSyllabus(id, syllabus));
     }
 
     @PostMapping("/{id}/status")
+    @QueryBudget(statements = 3, entityLoads = 15, collectionFetches = 1)
     public ResponseEntity<Syllabus> updateStatus(
             @PathVariable Long id, 
             @RequestParam Syllabus.SyllabusStatus status,
@@ -116,8 +207,19 @@ public class SyllabusController {
         return ResponseEntity.ok(syllabusService.updateStatus(id, status));
     }
 
+    @PostMapping("/status/bulk")
+    @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 12, entityLoads = 1)
+    public ResponseEntity<List<BulkStatusResultDTO>> bulkUpdateStatus(
+            @RequestBody BulkStatusUpdateDTO dto,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(syllabusService.bulkUpdateStatus(dto, authentication.getName()));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('COORDINATOR')")
+    @QueryBudget(statements = 6, entityLoads = 11, collectionFetches = 2)
     public ResponseEntity<Void> deleteSyllabus(@PathVariable Long id) {
         syllabusService.deleteSyllabus(id);
         return ResponseEntity.noContent().build();
@@ -0,0 +1,44 @@
+package com.sygsy.backend.controller;
+
+import com.sygsy.backend.config.QueryBudget;
+import com.sygsy.backend.domain.SyllabusTemplate;
+import com.sygsy.backend.service.SyllabusTemplateService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/syllabus-templates")
+@PreAuthorize("hasRole('COORDINATOR')")
+public class SyllabusTemplateController {
+
+    private final SyllabusTemplateService templateService;
+
+    public SyllabusTemplateController(SyllabusTemplateService templateService) {
+        this.templateService = templateService;
+    }
+
+    @GetMapping
+    @QueryBudget(statements = 3, collectionFetches = 2)
+    public ResponseEntity<List<SyllabusTemplate>> getAllTemplates() {
+        return ResponseEntity.ok(templateService.getAllTemplates());
+    }
+
+    // Creates or replaces the template of the body's (careerId, academicPeriodId); nulls mean "any".
+    // Saves and deletes are followed by the template cache reload, which their budgets include.
+    @PutMapping
+    @QueryBudget(statements = 8, entityLoads = 3, collectionFetches = 2)
+    public ResponseEntity<SyllabusTemplate> saveTemplate(@RequestBody SyllabusTemplate template, Authentication authentication) {
+        return ResponseEntity.ok(templateService.saveTemplate(template, authentication.getName()));
+    }
+
+    @DeleteMapping("/{id}")
+    @QueryBudget(statements = 8, entityLoads = 3, collectionFetches = 2)
+    public ResponseEntity<Void> deleteTemplate(@PathVariable Long id, Authentication authentication) {
+        templateService.deleteTemplate(id, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+}
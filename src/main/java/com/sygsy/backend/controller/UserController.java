@@ -1,7 +1,8 @@
 package com.sygsy.backend.controller;
 
+import com.sygsy.backend.config.QueryBudget;
 import com.sygsy.backend.domain.User;
-import com.sygsy.backend.repository.UserRepository;
+import com.sygsy.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,35 +15,35 @@ import java.util.List;
 @RequestMapping("/api/users")
 public class UserController {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
-    public UserController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserController(UserService userService) {
+        this.userService = userService;
     }
 
     @GetMapping
+    @QueryBudget(statements = 1, collectionFetches = 0)
     public ResponseEntity<List<User>> listUsers() {
-        return ResponseEntity.ok(userRepository.findAll());
+        return ResponseEntity.ok(userService.getAllUsers());
     }
 
     @GetMapping("/professors")
+    @QueryBudget(statements = 1, collectionFetches = 0)
     public ResponseEntity<List<User>> listProfessors() {
-        return ResponseEntity.ok(userRepository.findByRole(User.Role.PROFESSOR));
+        return ResponseEntity.ok(userService.getUsersByRole(User.Role.PROFESSOR));
     }
 
     @GetMapping("/coordinators")
+    @QueryBudget(statements = 1, collectionFetches = 0)
     public ResponseEntity<List<User>> listCoordinators() {
-        return ResponseEntity.ok(userRepository.findByRole(User.Role.COORDINATOR));
+        return ResponseEntity.ok(userService.getUsersByRole(User.Role.COORDINATOR));
     }
 
     @org.springframework.web.bind.annotation.PutMapping("/{id}")
+    @QueryBudget(statements = 3, entityLoads = 2)
     public ResponseEntity<User> updateUser(@org.springframework.web.bind.annotation.PathVariable Long id, @org.springframework.web.bind.annotation.RequestBody User updatedUser) {
-        return userRepository.findById(id)
-                .map(user -> {
-                    if (updatedUser.getCareer() != null) user.setCareer(updatedUser.getCareer());
-                    if (updatedUser.getFullName() != null) user.setFullName(updatedUser.getFullName());
-                    return ResponseEntity.ok(userRepository.save(user));
-                })
+        return userService.updateUser(id, updatedUser)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 }
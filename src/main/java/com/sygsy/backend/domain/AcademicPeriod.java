@@ -21,7 +21,7 @@ public class AcademicPeriod {
     @Column(nullable = false)
     private LocalDate endDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "coordinator_id", nullable = false)
     private User coordinator;
 
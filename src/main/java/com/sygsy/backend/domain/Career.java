@@ -10,6 +10,12 @@ import lombok.Setter;
 @Getter
 @Setter
 public class Career {
+    // Same rule as sygsy_normalize_career() in V8__career_normalize_rule.sql: the listed accented letters and
+    // A-Z become the lower-case plain letter at the same position, ASCII whitespace collapses to one space
+    // and is trimmed. Keep both strings identical to the ones in the migration.
+    private static final String FOLDED = "ÁÉÍÓÚÜÑÀÈÌÒÙÂÊÎÔÛÄËÏÖÇáéíóúüñàèìòùâêîôûäëïöçABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String PLAIN = "aeiouunaeiouaeiouaeiocaeiouunaeiouaeiouaeiocabcdefghijklmnopqrstuvwxyz";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -17,10 +23,14 @@ public class Career {
     @Column(nullable = false, unique = true)
     private String name;
 
+    // Lower-case, accent-free name used to match free-text input (see normalize)
+    @Column(name = "normalized_name", nullable = false, unique = true)
+    private String normalizedName;
+
     public Career() {}
 
     public Career(String name) {
-        this.name = name;
+        setName(name);
     }
 
     public Long getId() {
@@ -37,5 +47,31 @@ public class Career {
 
     public void setName(String name) {
         this.name = name;
+        this.normalizedName = normalize(name);
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    // Same rule as sygsy_normalize_career(), see FOLDED
+    public static String normalize(String name) {
+        if (name == null) return null;
+        StringBuilder normalized = new StringBuilder(name.length());
+        boolean space = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B') {
+                space = true;
+                continue;
+            }
+            if (space && normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            space = false;
+            int folded = FOLDED.indexOf(c);
+            normalized.append(folded >= 0 ? PLAIN.charAt(folded) : c);
+        }
+        return normalized.toString();
     }
 }
@@ -20,7 +20,7 @@ public class Evaluation {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "syllabus_id")
     @JsonIgnore
     private Syllabus syllabus;
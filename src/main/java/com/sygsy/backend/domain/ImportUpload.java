@@ -0,0 +1,187 @@
+package com.sygsy.backend.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bulk upload that was imported, identified by who uploaded it, for which period, in which
+ * mode and the SHA-256 of its bytes. SyllabusImportService answers repeats from it.
+ */
+@Entity
+@Table(name = "import_uploads")
+public class ImportUpload {
+
+    public enum Mode {
+        INSERT,
+        UPSERT
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "academic_period_id", nullable = false)
+    private Long academicPeriodId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Mode mode;
+
+    @Column(name = "content_hash", nullable = false)
+    private String contentHash;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(nullable = false)
+    private int inserted;
+
+    @Column(nullable = false)
+    private int updated;
+
+    @Column(nullable = false)
+    private int unchanged;
+
+    // Only filled for INSERT uploads, whose response is the list of created syllabi
+    @ElementCollection
+    @CollectionTable(name = "import_upload_syllabi", joinColumns = @JoinColumn(name = "upload_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "syllabus_id")
+    private List<Long> syllabusIds = new ArrayList<>();
+
+    @Column(name = "created", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ImportUpload() {
+    }
+
+    public ImportUpload(Long userId, Long academicPeriodId, Mode mode, String contentHash, String fileName, long fileSize) {
+        this.userId = userId;
+        this.academicPeriodId = academicPeriodId;
+        this.mode = mode;
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public void setAcademicPeriodId(Long academicPeriodId) {
+        this.academicPeriodId = academicPeriodId;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public List<Long> getSyllabusIds() {
+        return syllabusIds;
+    }
+
+    public void setSyllabusIds(List<Long> syllabusIds) {
+        this.syllabusIds = syllabusIds;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,6 +1,9 @@
 package com.sygsy.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,9 +18,13 @@ public class Syllabus {
 
     // I. DATOS GENERALES
     private String faculty;
-    private String career;
+    private String career; // Catalog name, kept for display and export
+
+    // Career-scoped queries filter on this id (see CareerService.resolve)
+    @Column(name = "career_id")
+    private Long careerId;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "academic_period_id", nullable = false)
     private AcademicPeriod academicPeriod;
     
@@ -32,13 +39,13 @@ public class Syllabus {
     private String courseType; // Tipo de curso
     private String prerequisites;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professor_id")
     private User professor;
 
     private String professorEmail; // Redundant but requested in "Datos Generales"
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "coordinator_id")
     private User coordinator; // Coordinator who created the syllabus
 
@@ -59,7 +66,9 @@ public class Syllabus {
     private String sumilla;
 
     // VI. UNIDADES DE APRENDIZAJE
+    // SUBSELECT: initializing one list loads the units of every syllabus from the same query
     @OneToMany(mappedBy = "syllabus", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<SyllabusUnit> units = new ArrayList<>();
 
     // VII. BIBLIOGRAFÍA
@@ -72,6 +81,7 @@ public class Syllabus {
 
     // IX. CRITERIOS DE EVALUACIÓN
     @OneToMany(mappedBy = "syllabus", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<Evaluation> evaluations = new ArrayList<>();
 
     // Workflow Status
@@ -97,10 +107,11 @@ public class Syllabus {
     public Syllabus() {
     }
 
-    public Syllabus(Long id, String faculty, String career, AcademicPeriod academicPeriod, String semester, Integer credits, Integer totalHours, Integer theoryHours, Integer practiceHours, String trainingArea, String courseCode, String courseName, String courseType, String prerequisites, User professor, String professorEmail, User coordinator, String courseCompetence, String profileCompetence, String previousCompetence, String sumilla, List<SyllabusUnit> units, String bibliography, String activities, List<Evaluation> evaluations, SyllabusStatus workflowStatus, String status, Long createdBy, Long modifiedBy, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public Syllabus(Long id, String faculty, String career, Long careerId, AcademicPeriod academicPeriod, String semester, Integer credits, Integer totalHours, Integer theoryHours, Integer practiceHours, String trainingArea, String courseCode, String courseName, String courseType, String prerequisites, User professor, String professorEmail, User coordinator, String courseCompetence, String profileCompetence, String previousCompetence, String sumilla, List<SyllabusUnit> units, String bibliography, String activities, List<Evaluation> evaluations, SyllabusStatus workflowStatus, String status, Long createdBy, Long modifiedBy, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.faculty = faculty;
         this.career = career;
+        this.careerId = careerId;
         this.academicPeriod = academicPeriod;
         this.semester = semester;
         this.credits = credits;
@@ -171,6 +182,14 @@ public class Syllabus {
         this.career = career;
     }
 
+    public Long getCareerId() {
+        return careerId;
+    }
+
+    public void setCareerId(Long careerId) {
+        this.careerId = careerId;
+    }
+
     public AcademicPeriod getAcademicPeriod() {
         return academicPeriod;
     }
@@ -400,7 +419,18 @@ public class Syllabus {
         ASSIGNED,   // Assigned to Professor (might be same as Created if assigned on upload)
         SUBMITTED,  // Professor filled and sent back
         APPROVED,   // Coordinator approved
-        RETURNED    // Coordinator returned for corrections
+        RETURNED;   // Coordinator returned for corrections
+
+        // Workflow edges offered by the UI: assign, submit (or resubmit), approve, return
+        public boolean canTransitionTo(SyllabusStatus target) {
+            switch (this) {
+                case CREATED: return target == ASSIGNED;
+                case ASSIGNED:
+                case RETURNED: return target == SUBMITTED;
+                case SUBMITTED: return target == APPROVED || target == RETURNED;
+                default: return false;
+            }
+        }
     }
 
     // Builder
@@ -412,6 +442,7 @@ public class Syllabus {
         private Long id;
         private String faculty;
         private String career;
+        private Long careerId;
         private AcademicPeriod academicPeriod;
         private String semester;
         private Integer credits;
@@ -459,6 +490,11 @@ public class Syllabus {
             return this;
         }
 
+        public SyllabusBuilder careerId(Long careerId) {
+            this.careerId = careerId;
+            return this;
+        }
+
         public SyllabusBuilder academicPeriod(AcademicPeriod academicPeriod) {
             this.academicPeriod = academicPeriod;
             return this;
@@ -600,11 +636,11 @@ public class Syllabus {
         }
 
         public Syllabus build() {
-            return new Syllabus(id, faculty, career, academicPeriod, semester, credits, totalHours, theoryHours, practiceHours, trainingArea, courseCode, courseName, courseType, prerequisites, professor, professorEmail, coordinator, courseCompetence, profileCompetence, previousCompetence, sumilla, units, bibliography, activities, evaluations, workflowStatus, status, createdBy, modifiedBy, createdAt, modifiedAt);
+            return new Syllabus(id, faculty, career, careerId, academicPeriod, semester, credits, totalHours, theoryHours, practiceHours, trainingArea, courseCode, courseName, courseType, prerequisites, professor, professorEmail, coordinator, courseCompetence, profileCompetence, previousCompetence, sumilla, units, bibliography, activities, evaluations, workflowStatus, status, createdBy, modifiedBy, createdAt, modifiedAt);
         }
 
         public String toString() {
-            return "Syllabus.SyllabusBuilder(id=" + this.id + ", faculty=" + this.faculty + ", career=" + this.career + ", academicPeriod=" + this.academicPeriod + ", semester=" + this.semester + ", credits=" + this.credits + ", totalHours=" + this.totalHours + ", theoryHours=" + this.theoryHours + ", practiceHours=" + this.practiceHours + ", trainingArea=" + this.trainingArea + ", courseCode=" + this.courseCode + ", courseName=" + this.courseName + ", courseType=" + this.courseType + ", prerequisites=" + this.prerequisites + ", professor=" + this.professor + ", professorEmail=" + this.professorEmail + ", coordinator=" + this.coordinator + ", courseCompetence=" + this.courseCompetence + ", profileCompetence=" + this.profileCompetence + ", previousCompetence=" + this.previousCompetence + ", sumilla=" + this.sumilla + ", units=" + this.units + ", bibliography=" + this.bibliography + ", activities=" + this.activities + ", evaluations=" + this.evaluations + ", workflowStatus=" + this.workflowStatus + ", status=" + this.status + ", createdBy=" + this.createdBy + ", modifiedBy=" + this.modifiedBy + ", createdAt=" + this.createdAt + ", modifiedAt=" + this.modifiedAt + ")";
+            return "Syllabus.SyllabusBuilder(id=" + this.id + ", faculty=" + this.faculty + ", career=" + this.career + ", careerId=" + this.careerId + ", academicPeriod=" + this.academicPeriod + ", semester=" + this.semester + ", credits=" + this.credits + ", totalHours=" + this.totalHours + ", theoryHours=" + this.theoryHours + ", practiceHours=" + this.practiceHours + ", trainingArea=" + this.trainingArea + ", courseCode=" + this.courseCode + ", courseName=" + this.courseName + ", courseType=" + this.courseType + ", prerequisites=" + this.prerequisites + ", professor=" + this.professor + ", professorEmail=" + this.professorEmail + ", coordinator=" + this.coordinator + ", courseCompetence=" + this.courseCompetence + ", profileCompetence=" + this.profileCompetence + ", previousCompetence=" + this.previousCompetence + ", sumilla=" + this.sumilla + ", units=" + this.units + ", bibliography=" + this.bibliography + ", activities=" + this.activities + ", evaluations=" + this.evaluations + ", workflowStatus=" + this.workflowStatus + ", status=" + this.status + ", createdBy=" + this.createdBy + ", modifiedBy=" + this.modifiedBy + ", createdAt=" + this.createdAt + ", modifiedAt=" + this.modifiedAt + ")";
         }
     }
 }
@@ -0,0 +1,139 @@
+package com.sygsy.backend.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Units and evaluations a new syllabus starts with. careerId and academicPeriodId narrow where
+ * it applies (null = any); SyllabusTemplateService keeps every template in memory.
+ */
+@Entity
+@Table(name = "syllabus_templates")
+public class SyllabusTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "career_id")
+    private Long careerId;
+
+    @Column(name = "academic_period_id")
+    private Long academicPeriodId;
+
+    @ElementCollection
+    @CollectionTable(name = "syllabus_template_units", joinColumns = @JoinColumn(name = "template_id"))
+    @OrderColumn(name = "position")
+    @Fetch(FetchMode.SUBSELECT)
+    private List<TemplateUnit> units = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "syllabus_template_evaluations", joinColumns = @JoinColumn(name = "template_id"))
+    @OrderColumn(name = "position")
+    @Fetch(FetchMode.SUBSELECT)
+    private List<TemplateEvaluation> evaluations = new ArrayList<>();
+
+    // Audit fields
+    @Column(name = "created_id")
+    private Long createdBy;
+
+    @Column(name = "modified_id")
+    private Long modifiedBy;
+
+    @Column(name = "created", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified")
+    private LocalDateTime modifiedAt;
+
+    public SyllabusTemplate() {
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        modifiedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        modifiedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCareerId() {
+        return careerId;
+    }
+
+    public void setCareerId(Long careerId) {
+        this.careerId = careerId;
+    }
+
+    public Long getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public void setAcademicPeriodId(Long academicPeriodId) {
+        this.academicPeriodId = academicPeriodId;
+    }
+
+    public List<TemplateUnit> getUnits() {
+        return units;
+    }
+
+    public void setUnits(List<TemplateUnit> units) {
+        this.units = units;
+    }
+
+    public List<TemplateEvaluation> getEvaluations() {
+        return evaluations;
+    }
+
+    public void setEvaluations(List<TemplateEvaluation> evaluations) {
+        this.evaluations = evaluations;
+    }
+
+    public Long getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(Long createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public Long getModifiedBy() {
+        return modifiedBy;
+    }
+
+    public void setModifiedBy(Long modifiedBy) {
+        this.modifiedBy = modifiedBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getModifiedAt() {
+        return modifiedAt;
+    }
+
+    public void setModifiedAt(LocalDateTime modifiedAt) {
+        this.modifiedAt = modifiedAt;
+    }
+}
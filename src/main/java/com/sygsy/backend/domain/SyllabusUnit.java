@@ -35,7 +35,7 @@ public class SyllabusUnit {
     @Column(columnDefinition = "TEXT")
     private String methodology;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "syllabus_id")
     @JsonIgnore
     private Syllabus syllabus;
@@ -0,0 +1,39 @@
+package com.sygsy.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+// One evaluation of a SyllabusTemplate: name and weight (0.30 = 30%)
+@Embeddable
+public class TemplateEvaluation {
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Double weight;
+
+    public TemplateEvaluation() {
+    }
+
+    public TemplateEvaluation(String name, Double weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sygsy.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+// One unit of a SyllabusTemplate; its position in the list gives the unit number
+@Embeddable
+public class TemplateUnit {
+
+    @Column(nullable = false)
+    private String title;
+
+    public TemplateUnit() {
+    }
+
+    public TemplateUnit(String title) {
+        this.title = title;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+}
@@ -22,6 +22,10 @@ public class User {
 
     @Column
     private String career; // Nullable for professors or admins, mainly for Coordinators
+
+    // Same career as above, by catalog id; this is what scope checks compare
+    @Column(name = "career_id")
+    private Long careerId;
     
     // Add missing email field if syllabus relies on it, though username might be email.
     // Based on Syllabus code: syllabus.getProfessor().getEmail() was called in PdfService refactor.
@@ -57,12 +61,13 @@ public class User {
     public User() {
     }
 
-    public User(Long id, String username, String password, String fullName, String career, Role role, String status, Long createdBy, Long modifiedBy, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public User(Long id, String username, String password, String fullName, String career, Long careerId, Role role, String status, Long createdBy, Long modifiedBy, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.username = username;
         this.password = password;
         this.fullName = fullName;
         this.career = career;
+        this.careerId = careerId;
         this.role = role;
         this.status = status;
         this.createdBy = createdBy;
@@ -136,6 +141,14 @@ public class User {
         this.career = career;
     }
 
+    public Long getCareerId() {
+        return careerId;
+    }
+
+    public void setCareerId(Long careerId) {
+        this.careerId = careerId;
+    }
+
     public Role getRole() {
         return role;
     }
@@ -195,6 +208,7 @@ public class User {
         private String password;
         private String fullName;
         private String career;
+        private Long careerId;
         private Role role;
         private String status = "ACTIVE";
         private Long createdBy;
@@ -230,6 +244,11 @@ public class User {
             return this;
         }
 
+        public UserBuilder careerId(Long careerId) {
+            this.careerId = careerId;
+            return this;
+        }
+
         public UserBuilder role(Role role) {
             this.role = role;
             return this;
@@ -261,7 +280,7 @@ public class User {
         }
 
         public User build() {
-            return new User(id, username, password, fullName, career, role, status, createdBy, modifiedBy, createdAt, modifiedAt);
+            return new User(id, username, password, fullName, career, careerId, role, status, createdBy, modifiedBy, createdAt, modifiedAt);
         }
 
         public String toString() {
@@ -0,0 +1,50 @@
+package com.sygsy.backend.dto;
+
+public class BulkStatusResultDTO {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        OUT_OF_SCOPE,
+        INVALID_TRANSITION,
+        SKIPPED, // Listed by id but outside the optional period/career/status filter
+        CONFLICT // Status changed concurrently between validation and update
+    }
+
+    private Long id;
+    private Outcome outcome;
+    private String message;
+
+    public BulkStatusResultDTO() {
+    }
+
+    public BulkStatusResultDTO(Long id, Outcome outcome, String message) {
+        this.id = id;
+        this.outcome = outcome;
+        this.message = message;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,68 @@
+package com.sygsy.backend.dto;
+
+import com.sygsy.backend.domain.Syllabus;
+
+import java.util.List;
+
+/**
+ * Either ids or a filter (academicPeriodId / career / currentStatus) selects the syllabi to move
+ * to targetStatus. When ids are given the filter fields further restrict them.
+ */
+public class BulkStatusUpdateDTO {
+    private List<Long> ids;
+    private Long academicPeriodId;
+    private String career;
+    private Syllabus.SyllabusStatus currentStatus;
+    private Syllabus.SyllabusStatus targetStatus;
+
+    public BulkStatusUpdateDTO() {
+    }
+
+    public BulkStatusUpdateDTO(List<Long> ids, Long academicPeriodId, String career, Syllabus.SyllabusStatus currentStatus, Syllabus.SyllabusStatus targetStatus) {
+        this.ids = ids;
+        this.academicPeriodId = academicPeriodId;
+        this.career = career;
+        this.currentStatus = currentStatus;
+        this.targetStatus = targetStatus;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Long getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public void setAcademicPeriodId(Long academicPeriodId) {
+        this.academicPeriodId = academicPeriodId;
+    }
+
+    public String getCareer() {
+        return career;
+    }
+
+    public void setCareer(String career) {
+        this.career = career;
+    }
+
+    public Syllabus.SyllabusStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(Syllabus.SyllabusStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public Syllabus.SyllabusStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    public void setTargetStatus(Syllabus.SyllabusStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sygsy.backend.dto;
+
+public class DashboardStatsDTO {
+    private long created;
+    private long assigned;
+    private long submitted;
+    private long approved;
+    private long returned;
+
+    public DashboardStatsDTO() {
+    }
+
+    public DashboardStatsDTO(long created, long assigned, long submitted, long approved, long returned) {
+        this.created = created;
+        this.assigned = assigned;
+        this.submitted = submitted;
+        this.approved = approved;
+        this.returned = returned;
+    }
+
+    public long getTotal() {
+        return created + assigned + submitted + approved + returned;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getAssigned() {
+        return assigned;
+    }
+
+    public void setAssigned(long assigned) {
+        this.assigned = assigned;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    public long getApproved() {
+        return approved;
+    }
+
+    public void setApproved(long approved) {
+        this.approved = approved;
+    }
+
+    public long getReturned() {
+        return returned;
+    }
+
+    public void setReturned(long returned) {
+        this.returned = returned;
+    }
+}
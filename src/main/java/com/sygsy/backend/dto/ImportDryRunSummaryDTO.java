@@ -0,0 +1,78 @@
+package com.sygsy.backend.dto;
+
+// Last line of a dry-run report
+public class ImportDryRunSummaryDTO {
+
+    private Long academicPeriodId;
+    private int rows;
+    private int newCourses;
+    private int existingCourses;
+    private int invalidRows;
+    private String error;
+
+    public ImportDryRunSummaryDTO() {
+    }
+
+    public ImportDryRunSummaryDTO(Long academicPeriodId, int rows, int newCourses, int existingCourses, int invalidRows, String error) {
+        this.academicPeriodId = academicPeriodId;
+        this.rows = rows;
+        this.newCourses = newCourses;
+        this.existingCourses = existingCourses;
+        this.invalidRows = invalidRows;
+        this.error = error;
+    }
+
+    public Long getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public void setAcademicPeriodId(Long academicPeriodId) {
+        this.academicPeriodId = academicPeriodId;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getNewCourses() {
+        return newCourses;
+    }
+
+    public void setNewCourses(int newCourses) {
+        this.newCourses = newCourses;
+    }
+
+    public int getExistingCourses() {
+        return existingCourses;
+    }
+
+    public void setExistingCourses(int existingCourses) {
+        this.existingCourses = existingCourses;
+    }
+
+    public int getInvalidRows() {
+        return invalidRows;
+    }
+
+    public void setInvalidRows(int invalidRows) {
+        this.invalidRows = invalidRows;
+    }
+
+    // Set when the file itself could not be read to the end; the rows above it were still checked
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    // Imports are all-or-nothing, so a single invalid row means the upload would be rejected
+    public boolean isImportable() {
+        return error == null && rows > 0 && invalidRows == 0;
+    }
+}
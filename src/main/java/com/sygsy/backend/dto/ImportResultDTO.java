@@ -0,0 +1,61 @@
+package com.sygsy.backend.dto;
+
+public class ImportResultDTO {
+
+    private Long academicPeriodId;
+    private int rows;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+
+    public ImportResultDTO() {
+    }
+
+    public ImportResultDTO(Long academicPeriodId, int rows, int inserted, int updated, int unchanged) {
+        this.academicPeriodId = academicPeriodId;
+        this.rows = rows;
+        this.inserted = inserted;
+        this.updated = updated;
+        this.unchanged = unchanged;
+    }
+
+    public Long getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public void setAcademicPeriodId(Long academicPeriodId) {
+        this.academicPeriodId = academicPeriodId;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+}
@@ -0,0 +1,85 @@
+package com.sygsy.backend.dto;
+
+import java.util.List;
+
+// One line of a dry-run report: what the import would do with a row, and why it would fail
+public class ImportRowReportDTO {
+
+    public enum Course {
+        NEW,
+        EXISTING // The period already has a syllabus with this course code
+    }
+
+    private String source;
+    private int row;
+    private String courseCode;
+    private String courseName;
+    private Course course;
+    private List<String> errors;
+
+    public ImportRowReportDTO() {
+    }
+
+    public ImportRowReportDTO(String source, int row, String courseCode, String courseName, Course course, List<String> errors) {
+        this.source = source;
+        this.row = row;
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.course = course;
+        this.errors = errors;
+    }
+
+    // Sheet name, or the file name for a CSV upload
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    // 1-based, as the spreadsheet shows it
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
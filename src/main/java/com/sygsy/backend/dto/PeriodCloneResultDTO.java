@@ -0,0 +1,71 @@
+package com.sygsy.backend.dto;
+
+public class PeriodCloneResultDTO {
+
+    private Long sourcePeriodId;
+    private Long targetPeriodId;
+    private boolean withContent;
+    private int syllabi;
+    private int units;
+    private int evaluations;
+
+    public PeriodCloneResultDTO() {
+    }
+
+    public PeriodCloneResultDTO(Long sourcePeriodId, Long targetPeriodId, boolean withContent, int syllabi, int units, int evaluations) {
+        this.sourcePeriodId = sourcePeriodId;
+        this.targetPeriodId = targetPeriodId;
+        this.withContent = withContent;
+        this.syllabi = syllabi;
+        this.units = units;
+        this.evaluations = evaluations;
+    }
+
+    public Long getSourcePeriodId() {
+        return sourcePeriodId;
+    }
+
+    public void setSourcePeriodId(Long sourcePeriodId) {
+        this.sourcePeriodId = sourcePeriodId;
+    }
+
+    public Long getTargetPeriodId() {
+        return targetPeriodId;
+    }
+
+    public void setTargetPeriodId(Long targetPeriodId) {
+        this.targetPeriodId = targetPeriodId;
+    }
+
+    public boolean isWithContent() {
+        return withContent;
+    }
+
+    public void setWithContent(boolean withContent) {
+        this.withContent = withContent;
+    }
+
+    public int getSyllabi() {
+        return syllabi;
+    }
+
+    public void setSyllabi(int syllabi) {
+        this.syllabi = syllabi;
+    }
+
+    public int getUnits() {
+        return units;
+    }
+
+    public void setUnits(int units) {
+        this.units = units;
+    }
+
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    public void setEvaluations(int evaluations) {
+        this.evaluations = evaluations;
+    }
+}
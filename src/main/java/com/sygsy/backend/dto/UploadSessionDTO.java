@@ -0,0 +1,56 @@
+package com.sygsy.backend.dto;
+
+public class UploadSessionDTO {
+
+    private String id;
+    private String fileName;
+    private long totalSize;
+    private long offset;
+
+    public UploadSessionDTO() {
+    }
+
+    public UploadSessionDTO(String id, String fileName, long totalSize, long offset) {
+        this.id = id;
+        this.fileName = fileName;
+        this.totalSize = totalSize;
+        this.offset = offset;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public void setTotalSize(long totalSize) {
+        this.totalSize = totalSize;
+    }
+
+    // Bytes received so far: where the next chunk (or a resumed upload) has to start
+    public long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    public boolean isComplete() {
+        return offset == totalSize;
+    }
+}
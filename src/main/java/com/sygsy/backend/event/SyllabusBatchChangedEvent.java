@@ -0,0 +1,20 @@
+package com.sygsy.backend.event;
+
+import java.util.List;
+
+/**
+ * Groups the changes of one set-based operation (bulk status update) so listeners can apply them
+ * together instead of reacting to hundreds of individual events.
+ */
+public class SyllabusBatchChangedEvent {
+
+    private final List<SyllabusChangedEvent> changes;
+
+    public SyllabusBatchChangedEvent(List<SyllabusChangedEvent> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<SyllabusChangedEvent> getChanges() {
+        return changes;
+    }
+}
@@ -0,0 +1,117 @@
+package com.sygsy.backend.event;
+
+import com.sygsy.backend.domain.Syllabus;
+
+/**
+ * Published by SyllabusService whenever a syllabus is created, moves through the workflow,
+ * changes career or is deleted. Listeners consume it after the surrounding transaction commits.
+ * previousCareer/previousStatus are null for CREATED, career/status are null for DELETED.
+ * Listeners match careers by id; the names are carried for display.
+ */
+public class SyllabusChangedEvent {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long syllabusId;
+    private final Long academicPeriodId;
+    private final String courseName;
+    private final Long professorId;
+    private final String previousCareer;
+    private final String career;
+    private final Long previousCareerId;
+    private final Long careerId;
+    private final Syllabus.SyllabusStatus previousStatus;
+    private final Syllabus.SyllabusStatus status;
+
+    public SyllabusChangedEvent(Type type, Long syllabusId, Long academicPeriodId, String courseName, Long professorId, String previousCareer, String career, Long previousCareerId, Long careerId, Syllabus.SyllabusStatus previousStatus, Syllabus.SyllabusStatus status) {
+        this.type = type;
+        this.syllabusId = syllabusId;
+        this.academicPeriodId = academicPeriodId;
+        this.courseName = courseName;
+        this.professorId = professorId;
+        this.previousCareer = previousCareer;
+        this.career = career;
+        this.previousCareerId = previousCareerId;
+        this.careerId = careerId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+    }
+
+    public static SyllabusChangedEvent created(Syllabus syllabus) {
+        return new SyllabusChangedEvent(Type.CREATED, syllabus.getId(), periodId(syllabus), syllabus.getCourseName(), professorId(syllabus),
+                null, syllabus.getCareer(), null, syllabus.getCareerId(), null, syllabus.getWorkflowStatus());
+    }
+
+    public static SyllabusChangedEvent statusChanged(Syllabus syllabus, Syllabus.SyllabusStatus previousStatus) {
+        return new SyllabusChangedEvent(Type.STATUS_CHANGED, syllabus.getId(), periodId(syllabus), syllabus.getCourseName(), professorId(syllabus),
+                syllabus.getCareer(), syllabus.getCareer(), syllabus.getCareerId(), syllabus.getCareerId(), previousStatus, syllabus.getWorkflowStatus());
+    }
+
+    public static SyllabusChangedEvent careerChanged(Syllabus syllabus, String previousCareer, Long previousCareerId) {
+        return new SyllabusChangedEvent(Type.UPDATED, syllabus.getId(), periodId(syllabus), syllabus.getCourseName(), professorId(syllabus),
+                previousCareer, syllabus.getCareer(), previousCareerId, syllabus.getCareerId(), syllabus.getWorkflowStatus(), syllabus.getWorkflowStatus());
+    }
+
+    public static SyllabusChangedEvent deleted(Syllabus syllabus) {
+        return new SyllabusChangedEvent(Type.DELETED, syllabus.getId(), periodId(syllabus), syllabus.getCourseName(), professorId(syllabus),
+                syllabus.getCareer(), null, syllabus.getCareerId(), null, syllabus.getWorkflowStatus(), null);
+    }
+
+    private static Long periodId(Syllabus syllabus) {
+        return syllabus.getAcademicPeriod() != null ? syllabus.getAcademicPeriod().getId() : null;
+    }
+
+    private static Long professorId(Syllabus syllabus) {
+        return syllabus.getProfessor() != null ? syllabus.getProfessor().getId() : null;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getSyllabusId() {
+        return syllabusId;
+    }
+
+    public Long getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public Long getProfessorId() {
+        return professorId;
+    }
+
+    public String getPreviousCareer() {
+        return previousCareer;
+    }
+
+    public String getCareer() {
+        return career;
+    }
+
+    public Long getPreviousCareerId() {
+        return previousCareerId;
+    }
+
+    public Long getCareerId() {
+        return careerId;
+    }
+
+    public Syllabus.SyllabusStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Syllabus.SyllabusStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sygsy.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.sygsy.ExcelParse")
+@Label("Excel Parse")
+@Description("One uploaded workbook parsed by ExcelService")
+@Category({"SYGSY", "Excel"})
+@StackTrace(false)
+public class ExcelParseEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Sheets")
+    public String sheet;
+
+    @Label("Rows")
+    public int rows;
+}
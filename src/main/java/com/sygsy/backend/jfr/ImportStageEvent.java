@@ -0,0 +1,27 @@
+package com.sygsy.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.sygsy.ImportStage")
+@Label("Import Stage")
+@Description("One stage (parse, validate, persist) of a bulk syllabus import")
+@Category({"SYGSY", "Excel"})
+@StackTrace(false)
+public class ImportStageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Academic Period Id")
+    public long academicPeriodId;
+
+    @Label("Coordinator")
+    public String coordinator;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,30 @@
+package com.sygsy.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.sygsy.JwtVerification")
+@Label("JWT Verification")
+@Description("Bearer token handling in JwtAuthenticationFilter, split into token checks and user lookup")
+@Category({"SYGSY", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends jdk.jfr.Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("Verify Time")
+    @Timespan
+    public long verifyNanos;
+
+    @Label("User Lookup Time")
+    @Timespan
+    public long lookupNanos;
+}
@@ -0,0 +1,29 @@
+package com.sygsy.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.sygsy.PdfRender")
+@Label("Syllabus PDF Render")
+@Description("One call to PdfService.generateSyllabusPdf")
+@Category({"SYGSY", "PDF"})
+@StackTrace(false)
+public class PdfRenderEvent extends jdk.jfr.Event {
+
+    @Label("Syllabus Id")
+    public long syllabusId;
+
+    @Label("Units")
+    public int units;
+
+    @Label("Evaluations")
+    public int evaluations;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
@@ -2,14 +2,36 @@ package com.sygsy.backend.repository;
 
 import com.sygsy.backend.domain.AcademicPeriod;
 import com.sygsy.backend.domain.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AcademicPeriodRepository extends JpaRepository<AcademicPeriod, Long> {
+    // coordinator is LAZY but serialized with every period, so it is fetched in the same query
+    @EntityGraph(attributePaths = "coordinator")
     Optional<AcademicPeriod> findByName(String name);
+
+    @EntityGraph(attributePaths = "coordinator")
     List<AcademicPeriod> findByCoordinator(User coordinator);
+
+    @Override
+    @EntityGraph(attributePaths = "coordinator")
+    List<AcademicPeriod> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "coordinator")
+    Optional<AcademicPeriod> findById(Long id);
+
+    // SELECT ... FOR UPDATE: serializes writers that add syllabi to the same period in bulk
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM AcademicPeriod p WHERE p.id = :id")
+    Optional<AcademicPeriod> findByIdForUpdate(@Param("id") Long id);
 }
@@ -9,4 +9,7 @@ import java.util.Optional;
 @Repository
 public interface CareerRepository extends JpaRepository<Career, Long> {
     Optional<Career> findByName(String name);
+
+    // normalizedName must come from Career.normalize
+    Optional<Career> findByNormalizedName(String normalizedName);
 }
@@ -0,0 +1,32 @@
+package com.sygsy.backend.repository;
+
+import com.sygsy.backend.domain.ImportUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportUploadRepository extends JpaRepository<ImportUpload, Long> {
+
+    Optional<ImportUpload> findByUserIdAndAcademicPeriodIdAndModeAndContentHash(Long userId, Long academicPeriodId,
+                                                                                ImportUpload.Mode mode, String contentHash);
+
+    // Transaction-scoped advisory lock on an upload key: a second instance importing the same file waits
+    // here until the first one commits its record
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(:key, 0))", nativeQuery = true)
+    Integer lockKey(@Param("key") String key);
+
+    // Runs immediately (unlike delete(entity)), so an expired record can be replaced in the same transaction.
+    // The recorded syllabus ids go with it through ON DELETE CASCADE.
+    @Modifying
+    @Query("DELETE FROM ImportUpload u WHERE u.userId = :userId AND u.academicPeriodId = :academicPeriodId " +
+            "AND u.mode = :mode AND u.contentHash = :contentHash")
+    int deleteByKey(@Param("userId") Long userId,
+                    @Param("academicPeriodId") Long academicPeriodId,
+                    @Param("mode") ImportUpload.Mode mode,
+                    @Param("contentHash") String contentHash);
+}
@@ -2,13 +2,213 @@ package com.sygsy.backend.repository;
 
 import com.sygsy.backend.domain.Syllabus;
 import com.sygsy.backend.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SyllabusRepository extends JpaRepository<Syllabus, Long> {
+
+    // Fetch plans: associations are LAZY, each use case states what it needs up front.
+    // Units/evaluations are never joined together (two bags); they load through SUBSELECT instead.
+
+    // List: to-one links that are serialized with every row
+    @EntityGraph(attributePaths = {"academicPeriod", "academicPeriod.coordinator", "professor", "coordinator"})
     List<Syllabus> findByProfessor(User professor);
+
+    @EntityGraph(attributePaths = {"academicPeriod", "academicPeriod.coordinator", "professor", "coordinator"})
     List<Syllabus> findByWorkflowStatus(Syllabus.SyllabusStatus workflowStatus);
+
+    @EntityGraph(attributePaths = {"academicPeriod", "academicPeriod.coordinator", "professor", "coordinator"})
+    @Query("SELECT s FROM Syllabus s")
+    List<Syllabus> findAllForList();
+
+    @EntityGraph(attributePaths = {"academicPeriod", "academicPeriod.coordinator", "professor", "coordinator"})
+    @Query("SELECT s FROM Syllabus s WHERE s.careerId = :careerId")
+    List<Syllabus> findForListByCareerId(@Param("careerId") Long careerId);
+
+    @EntityGraph(attributePaths = {"academicPeriod", "academicPeriod.coordinator", "professor", "coordinator"})
+    @Query("SELECT s FROM Syllabus s WHERE s.id IN :ids")
+    List<Syllabus> findForListByIdIn(@Param("ids") Collection<Long> ids);
+
+    boolean existsByCareerId(Long careerId);
+
+    // Detail / edit: everything the edit page shows, evaluations follow by SUBSELECT
+    @EntityGraph(attributePaths = {"academicPeriod", "academicPeriod.coordinator", "professor", "coordinator", "units"})
+    @Query("SELECT s FROM Syllabus s WHERE s.id = :id")
+    Optional<Syllabus> findDetailById(@Param("id") Long id);
+
+    // PDF render: period and professor names, units; evaluations follow by SUBSELECT
+    @EntityGraph(attributePaths = {"academicPeriod", "professor", "units"})
+    @Query("SELECT s FROM Syllabus s WHERE s.id = :id")
+    Optional<Syllabus> findForPdfById(@Param("id") Long id);
+
+    // Export: the 14 general data columns ExcelService reads, as read-only tuples (no managed entities)
+    interface ExportRow {
+        String getFaculty();
+        String getCareer();
+        String getPeriodName();
+        String getSemester();
+        Integer getCredits();
+        Integer getTotalHours();
+        Integer getTheoryHours();
+        Integer getPracticeHours();
+        String getTrainingArea();
+        String getCourseCode();
+        String getCourseName();
+        String getCourseType();
+        String getPrerequisites();
+        String getProfessorEmail();
+    }
+
+    // Must be consumed inside a transaction: the fetch size turns it into a server-side cursor,
+    // so memory stays flat however large the period is
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s.faculty AS faculty, s.career AS career, a.name AS periodName, s.semester AS semester, s.credits AS credits, " +
+            "s.totalHours AS totalHours, s.theoryHours AS theoryHours, s.practiceHours AS practiceHours, s.trainingArea AS trainingArea, " +
+            "s.courseCode AS courseCode, s.courseName AS courseName, s.courseType AS courseType, s.prerequisites AS prerequisites, " +
+            "COALESCE(s.professorEmail, p.username) AS professorEmail " +
+            "FROM Syllabus s JOIN s.academicPeriod a LEFT JOIN s.professor p " +
+            "WHERE a.id = :academicPeriodId AND (:careerId IS NULL OR s.careerId = :careerId) ORDER BY s.id")
+    Stream<ExportRow> streamForExport(@Param("academicPeriodId") Long academicPeriodId, @Param("careerId") Long careerId);
+
+    // Rows of [academicPeriodId, careerId, workflowStatus, count] used to seed the dashboard counters
+    @Query("SELECT s.academicPeriod.id, s.careerId, s.workflowStatus, COUNT(s) FROM Syllabus s " +
+            "GROUP BY s.academicPeriod.id, s.careerId, s.workflowStatus")
+    List<Object[]> countGroupedByPeriodCareerAndStatus();
+
+    // Rows of [workflowStatus, count] for a single professor
+    @Query("SELECT s.workflowStatus, COUNT(s) FROM Syllabus s WHERE s.professor = :professor GROUP BY s.workflowStatus")
+    List<Object[]> countByProfessorGroupedByStatus(@Param("professor") User professor);
+
+    // Minimal columns needed to validate and report a workflow transition without loading entities
+    interface WorkflowRow {
+        Long getId();
+        Long getAcademicPeriodId();
+        Long getCareerId();
+        String getCareer();
+        String getCourseName();
+        Long getProfessorId();
+        Syllabus.SyllabusStatus getWorkflowStatus();
+    }
+
+    @Query("SELECT s.id AS id, s.academicPeriod.id AS academicPeriodId, s.careerId AS careerId, s.career AS career, s.courseName AS courseName, " +
+            "p.id AS professorId, s.workflowStatus AS workflowStatus FROM Syllabus s LEFT JOIN s.professor p WHERE s.id IN :ids")
+    List<WorkflowRow> findWorkflowRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id AS id, s.academicPeriod.id AS academicPeriodId, s.careerId AS careerId, s.career AS career, s.courseName AS courseName, " +
+            "p.id AS professorId, s.workflowStatus AS workflowStatus FROM Syllabus s LEFT JOIN s.professor p " +
+            "WHERE s.workflowStatus = :status " +
+            "AND (:academicPeriodId IS NULL OR s.academicPeriod.id = :academicPeriodId) " +
+            "AND (:careerId IS NULL OR s.careerId = :careerId)")
+    List<WorkflowRow> findWorkflowRowsByFilter(@Param("status") Syllabus.SyllabusStatus status,
+                                               @Param("academicPeriodId") Long academicPeriodId,
+                                               @Param("careerId") Long careerId);
+
+    // Syllabi of the period already holding one of the codes, for the import's set-based checks
+    interface CourseCodeRow {
+        Long getId();
+        String getCourseCode();
+        Long getCareerId();
+        String getCareer();
+        String getProfessorEmail();
+        Syllabus.SyllabusStatus getWorkflowStatus();
+    }
+
+    @Query("SELECT s.id AS id, s.courseCode AS courseCode, s.careerId AS careerId, s.career AS career, " +
+            "s.professorEmail AS professorEmail, s.workflowStatus AS workflowStatus FROM Syllabus s " +
+            "WHERE s.academicPeriod.id = :academicPeriodId AND s.courseCode IN :courseCodes")
+    List<CourseCodeRow> findCourseCodeRows(@Param("academicPeriodId") Long academicPeriodId,
+                                           @Param("courseCodes") Collection<String> courseCodes);
+
+    boolean existsByAcademicPeriodIdAndCourseCode(Long academicPeriodId, String courseCode);
+
+    boolean existsByAcademicPeriodIdAndCourseCodeAndIdNot(Long academicPeriodId, String courseCode, Long id);
+
+    // Native so the ids actually moved come back from the UPDATE itself: a row another transaction moved
+    // after our read fails the status check and is not returned. Runs in the caller's transaction.
+    @Query(value = "UPDATE syllabi SET workflow_status = :target, modified_id = :modifiedBy, modified = :modifiedAt " +
+            "WHERE id IN (:ids) AND workflow_status = :current RETURNING id", nativeQuery = true)
+    List<Long> updateWorkflowStatus(@Param("ids") Collection<Long> ids,
+                                    @Param("current") String current,
+                                    @Param("target") String target,
+                                    @Param("modifiedBy") Long modifiedBy,
+                                    @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // Period rollover: three INSERT ... SELECT statements run in the caller's transaction. Rows of
+    // [id, cloned_from_id] for every copy come back from the syllabi INSERT itself, and the units and
+    // evaluations are copied for exactly those ids. A source row is skipped when its course code is already in the
+    // target or the target already holds a copy of it; the second check covers rows without a code.
+    @Query(value = "INSERT INTO syllabi (faculty, career, career_id, academic_period_id, semester, credits, total_hours, theory_hours, " +
+            "practice_hours, training_area, course_code, course_name, course_type, prerequisites, professor_id, professor_email, " +
+            "coordinator_id, course_competence, profile_competence, previous_competence, sumilla, bibliography, activities, " +
+            "workflow_status, status, cloned_from_id, created_id, created, modified) " +
+            "SELECT s.faculty, s.career, s.career_id, :targetId, s.semester, s.credits, s.total_hours, s.theory_hours, " +
+            "s.practice_hours, s.training_area, s.course_code, s.course_name, s.course_type, s.prerequisites, s.professor_id, " +
+            "s.professor_email, :coordinatorId, " +
+            "CASE WHEN :withContent THEN s.course_competence END, CASE WHEN :withContent THEN s.profile_competence END, " +
+            "CASE WHEN :withContent THEN s.previous_competence END, CASE WHEN :withContent THEN s.sumilla END, " +
+            "CASE WHEN :withContent THEN s.bibliography END, CASE WHEN :withContent THEN s.activities END, " +
+            "'CREATED', 'ACTIVE', s.id, :coordinatorId, :now, :now " +
+            "FROM syllabi s WHERE s.academic_period_id = :sourceId " +
+            "AND (CAST(:careerId AS BIGINT) IS NULL OR s.career_id = :careerId) " +
+            "AND NOT EXISTS (SELECT 1 FROM syllabi t WHERE t.academic_period_id = :targetId " +
+            "AND (t.course_code = s.course_code OR t.cloned_from_id = s.id)) " +
+            "ORDER BY s.id RETURNING id, cloned_from_id", nativeQuery = true)
+    List<Object[]> cloneIntoPeriod(@Param("sourceId") Long sourceId,
+                                   @Param("targetId") Long targetId,
+                                   @Param("careerId") Long careerId,
+                                   @Param("withContent") boolean withContent,
+                                   @Param("coordinatorId") Long coordinatorId,
+                                   @Param("now") LocalDateTime now);
+
+    // Without content only the unit structure (number, title) is copied; dates move by dayOffset
+    @Modifying
+    @Query(value = "INSERT INTO syllabus_units (unit_number, title, start_date, end_date, content, week1content, week2content, " +
+            "week3content, week4content, methodology, syllabus_id, status, created_id, created, modified) " +
+            "SELECT u.unit_number, u.title, " +
+            "CASE WHEN :withContent THEN u.start_date + :dayOffset END, CASE WHEN :withContent THEN u.end_date + :dayOffset END, " +
+            "CASE WHEN :withContent THEN u.content END, CASE WHEN :withContent THEN u.week1content END, " +
+            "CASE WHEN :withContent THEN u.week2content END, CASE WHEN :withContent THEN u.week3content END, " +
+            "CASE WHEN :withContent THEN u.week4content END, CASE WHEN :withContent THEN u.methodology END, " +
+            "s.id, 'ACTIVE', :coordinatorId, :now, :now " +
+            "FROM syllabi s JOIN syllabus_units u ON u.syllabus_id = s.cloned_from_id " +
+            "WHERE s.id IN (:ids) AND u.syllabus_id IN (:sourceIds) " +
+            "ORDER BY s.id, u.unit_number", nativeQuery = true)
+    int cloneUnitsIntoPeriod(@Param("ids") Collection<Long> ids,
+                             @Param("sourceIds") Collection<Long> sourceIds,
+                             @Param("withContent") boolean withContent,
+                             @Param("dayOffset") int dayOffset,
+                             @Param("coordinatorId") Long coordinatorId,
+                             @Param("now") LocalDateTime now);
+
+    // Names and weights always; description and consolidation date only with content
+    @Modifying
+    @Query(value = "INSERT INTO evaluations (name, weight, consolidation_date, description, syllabus_id, status, created_id, created, modified) " +
+            "SELECT e.name, e.weight, CASE WHEN :withContent THEN e.consolidation_date + :dayOffset END, " +
+            "CASE WHEN :withContent THEN e.description END, s.id, 'ACTIVE', :coordinatorId, :now, :now " +
+            "FROM syllabi s JOIN evaluations e ON e.syllabus_id = s.cloned_from_id " +
+            "WHERE s.id IN (:ids) AND e.syllabus_id IN (:sourceIds) " +
+            "ORDER BY s.id, e.id", nativeQuery = true)
+    int cloneEvaluationsIntoPeriod(@Param("ids") Collection<Long> ids,
+                                   @Param("sourceIds") Collection<Long> sourceIds,
+                                   @Param("withContent") boolean withContent,
+                                   @Param("dayOffset") int dayOffset,
+                                   @Param("coordinatorId") Long coordinatorId,
+                                   @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,19 @@
+package com.sygsy.backend.repository;
+
+import com.sygsy.backend.domain.SyllabusTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SyllabusTemplateRepository extends JpaRepository<SyllabusTemplate, Long> {
+
+    // Null-safe match on the (career, period) scope, same as the unique index
+    @Query("SELECT t FROM SyllabusTemplate t WHERE " +
+            "((:careerId IS NULL AND t.careerId IS NULL) OR t.careerId = :careerId) AND " +
+            "((:academicPeriodId IS NULL AND t.academicPeriodId IS NULL) OR t.academicPeriodId = :academicPeriodId)")
+    Optional<SyllabusTemplate> findByScope(@Param("careerId") Long careerId, @Param("academicPeriodId") Long academicPeriodId);
+}
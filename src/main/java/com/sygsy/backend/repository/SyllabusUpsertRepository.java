@@ -0,0 +1,198 @@
+package com.sygsy.backend.repository;
+
+import com.sygsy.backend.domain.Syllabus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based writes for the bulk imports. Each chunk of rows is sent as column arrays and expanded
+ * with unnest(), so a chunk costs one statement however many rows it has. Runs on the connection
+ * of the surrounding JPA transaction.
+ */
+@Repository
+public class SyllabusUpsertRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO syllabi (faculty, career, career_id, academic_period_id, semester, credits, "
+            + "total_hours, theory_hours, practice_hours, training_area, course_code, course_name, course_type, prerequisites, "
+            + "professor_id, professor_email, coordinator_id, workflow_status, status, created_id, created, modified) "
+            + "SELECT r.faculty, r.career, r.career_id, ?, r.semester, r.credits, r.total_hours, r.theory_hours, r.practice_hours, "
+            + "r.training_area, r.course_code, r.course_name, r.course_type, r.prerequisites, r.professor_id, r.professor_email, "
+            + "?, 'CREATED', 'ACTIVE', ?, ?, ? "
+            + "FROM unnest(?::varchar[], ?::varchar[], ?::bigint[], ?::varchar[], ?::int[], ?::int[], ?::int[], ?::int[], "
+            + "?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::bigint[], ?::varchar[]) WITH ORDINALITY "
+            + "AS r(faculty, career, career_id, semester, credits, total_hours, theory_hours, practice_hours, training_area, "
+            + "course_code, course_name, course_type, prerequisites, professor_id, professor_email, ordinality) ";
+
+    // xmax is 0 only for a freshly inserted row version
+    private static final String RETURNING = "RETURNING id, course_code, career_id, career, course_name, professor_id, workflow_status, "
+            + "(xmax = 0) AS inserted";
+
+    // Matches on uk_syllabi_period_course_code. An existing syllabus keeps its content, workflow status,
+    // units and evaluations; general data follows the rules of SyllabusService.updateSyllabusFromExcel:
+    // course name only when the sheet has one, and the professor is never changed (assignment is its
+    // own workflow step, with its notification); a different email in the sheet is rejected before this.
+    private static final String UPSERT_SQL = INSERT_SQL
+            + "ON CONFLICT (academic_period_id, course_code) DO UPDATE SET "
+            + "faculty = EXCLUDED.faculty, career = EXCLUDED.career, career_id = EXCLUDED.career_id, semester = EXCLUDED.semester, "
+            + "credits = EXCLUDED.credits, total_hours = EXCLUDED.total_hours, theory_hours = EXCLUDED.theory_hours, "
+            + "practice_hours = EXCLUDED.practice_hours, training_area = EXCLUDED.training_area, "
+            + "course_name = COALESCE(NULLIF(EXCLUDED.course_name, ''), syllabi.course_name), "
+            + "course_type = EXCLUDED.course_type, prerequisites = EXCLUDED.prerequisites, "
+            + "modified_id = EXCLUDED.created_id, modified = EXCLUDED.modified "
+            // Identical rows are left alone and not returned, so uploading the same sheet twice writes nothing
+            + "WHERE (syllabi.faculty, syllabi.career_id, syllabi.semester, syllabi.credits, syllabi.total_hours, syllabi.theory_hours, "
+            + "syllabi.practice_hours, syllabi.training_area, syllabi.course_name, syllabi.course_type, syllabi.prerequisites) "
+            + "IS DISTINCT FROM (EXCLUDED.faculty, EXCLUDED.career_id, EXCLUDED.semester, EXCLUDED.credits, "
+            + "EXCLUDED.total_hours, EXCLUDED.theory_hours, EXCLUDED.practice_hours, EXCLUDED.training_area, "
+            + "COALESCE(NULLIF(EXCLUDED.course_name, ''), syllabi.course_name), EXCLUDED.course_type, EXCLUDED.prerequisites) "
+            + RETURNING;
+
+    private static final String UNITS_SQL = "INSERT INTO syllabus_units (unit_number, title, syllabus_id, status, created_id, created, modified) "
+            + "SELECT u.unit_number, u.title, s.id, 'ACTIVE', ?, ?, ? "
+            + "FROM unnest(?::bigint[]) AS s(id) CROSS JOIN unnest(?::int[], ?::varchar[]) AS u(unit_number, title) "
+            + "ORDER BY s.id, u.unit_number";
+
+    private static final String EVALUATIONS_SQL = "INSERT INTO evaluations (name, weight, syllabus_id, status, created_id, created, modified) "
+            + "SELECT e.name, e.weight, s.id, 'ACTIVE', ?, ?, ? "
+            + "FROM unnest(?::bigint[]) AS s(id) CROSS JOIN unnest(?::varchar[], ?::float8[]) WITH ORDINALITY AS e(name, weight, position) "
+            + "ORDER BY s.id, e.position";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyllabusUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** One row of the sheet with its career and professor already resolved. */
+    public record UpsertRow(String faculty, String career, Long careerId, String semester, Integer credits, Integer totalHours,
+                            Integer theoryHours, Integer practiceHours, String trainingArea, String courseCode, String courseName,
+                            String courseType, String prerequisites, Long professorId, String professorEmail) {
+    }
+
+    /** The stored row after the statement; inserted is false when an existing syllabus was updated. */
+    public record UpsertResult(Long id, String courseCode, Long careerId, String career, String courseName, Long professorId,
+                               Syllabus.SyllabusStatus workflowStatus, boolean inserted) {
+    }
+
+    /**
+     * Upserts the rows into the period with a single statement and returns the inserted and changed
+     * ones. Course codes must be distinct within the list.
+     */
+    public List<UpsertResult> upsert(Long academicPeriodId, Long coordinatorId, LocalDateTime now, List<UpsertRow> rows) {
+        return write(UPSERT_SQL, academicPeriodId, coordinatorId, now, rows);
+    }
+
+    /**
+     * Inserts the rows into the period with a single statement and returns them; ids are drawn in the
+     * order of the list. A course code the period already has fails the statement on uk_syllabi_period_course_code.
+     */
+    public List<UpsertResult> insert(Long academicPeriodId, Long coordinatorId, LocalDateTime now, List<UpsertRow> rows) {
+        return write(INSERT_SQL + "ORDER BY r.ordinality " + RETURNING, academicPeriodId, coordinatorId, now, rows);
+    }
+
+    private List<UpsertResult> write(String sql, Long academicPeriodId, Long coordinatorId, LocalDateTime now, List<UpsertRow> rows) {
+        int size = rows.size();
+        String[] faculty = new String[size], career = new String[size], semester = new String[size], trainingArea = new String[size];
+        String[] courseCode = new String[size], courseName = new String[size], courseType = new String[size];
+        String[] prerequisites = new String[size], professorEmail = new String[size];
+        Integer[] credits = new Integer[size], totalHours = new Integer[size], theoryHours = new Integer[size], practiceHours = new Integer[size];
+        Long[] careerId = new Long[size], professorId = new Long[size];
+        for (int i = 0; i < size; i++) {
+            UpsertRow row = rows.get(i);
+            faculty[i] = row.faculty();
+            career[i] = row.career();
+            careerId[i] = row.careerId();
+            semester[i] = row.semester();
+            credits[i] = row.credits();
+            totalHours[i] = row.totalHours();
+            theoryHours[i] = row.theoryHours();
+            practiceHours[i] = row.practiceHours();
+            trainingArea[i] = row.trainingArea();
+            courseCode[i] = row.courseCode();
+            courseName[i] = row.courseName();
+            courseType[i] = row.courseType();
+            prerequisites[i] = row.prerequisites();
+            professorId[i] = row.professorId();
+            professorEmail[i] = row.professorEmail();
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int p = 1;
+            statement.setLong(p++, academicPeriodId);
+            statement.setLong(p++, coordinatorId);
+            statement.setLong(p++, coordinatorId);
+            statement.setTimestamp(p++, timestamp);
+            statement.setTimestamp(p++, timestamp);
+            statement.setArray(p++, connection.createArrayOf("varchar", faculty));
+            statement.setArray(p++, connection.createArrayOf("varchar", career));
+            statement.setArray(p++, connection.createArrayOf("bigint", careerId));
+            statement.setArray(p++, connection.createArrayOf("varchar", semester));
+            statement.setArray(p++, connection.createArrayOf("integer", credits));
+            statement.setArray(p++, connection.createArrayOf("integer", totalHours));
+            statement.setArray(p++, connection.createArrayOf("integer", theoryHours));
+            statement.setArray(p++, connection.createArrayOf("integer", practiceHours));
+            statement.setArray(p++, connection.createArrayOf("varchar", trainingArea));
+            statement.setArray(p++, connection.createArrayOf("varchar", courseCode));
+            statement.setArray(p++, connection.createArrayOf("varchar", courseName));
+            statement.setArray(p++, connection.createArrayOf("varchar", courseType));
+            statement.setArray(p++, connection.createArrayOf("varchar", prerequisites));
+            statement.setArray(p++, connection.createArrayOf("bigint", professorId));
+            statement.setArray(p, connection.createArrayOf("varchar", professorEmail));
+            return statement;
+        }, (rs, rowNum) -> new UpsertResult(
+                rs.getLong("id"),
+                rs.getString("course_code"),
+                rs.getObject("career_id", Long.class),
+                rs.getString("career"),
+                rs.getString("course_name"),
+                rs.getObject("professor_id", Long.class),
+                rs.getString("workflow_status") != null ? Syllabus.SyllabusStatus.valueOf(rs.getString("workflow_status")) : null,
+                rs.getBoolean("inserted")));
+    }
+
+    /** Gives every syllabus the same units, in one statement. */
+    public int insertUnits(Collection<Long> syllabusIds, Integer[] unitNumbers, String[] titles, Long createdBy, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UNITS_SQL);
+            bindAudit(statement, createdBy, timestamp);
+            statement.setArray(4, ids(connection, syllabusIds));
+            statement.setArray(5, connection.createArrayOf("integer", unitNumbers));
+            statement.setArray(6, connection.createArrayOf("varchar", titles));
+            return statement;
+        });
+    }
+
+    /** Gives every syllabus the same evaluations, in one statement. */
+    public int insertEvaluations(Collection<Long> syllabusIds, String[] names, Double[] weights, Long createdBy, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EVALUATIONS_SQL);
+            bindAudit(statement, createdBy, timestamp);
+            statement.setArray(4, ids(connection, syllabusIds));
+            statement.setArray(5, connection.createArrayOf("varchar", names));
+            statement.setArray(6, connection.createArrayOf("float8", weights));
+            return statement;
+        });
+    }
+
+    private static void bindAudit(PreparedStatement statement, Long createdBy, Timestamp timestamp) throws SQLException {
+        statement.setLong(1, createdBy);
+        statement.setTimestamp(2, timestamp);
+        statement.setTimestamp(3, timestamp);
+    }
+
+    private static java.sql.Array ids(Connection connection, Collection<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray(new Long[0]));
+    }
+}
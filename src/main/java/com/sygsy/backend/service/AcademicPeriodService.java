@@ -3,23 +3,43 @@ package com.sygsy.backend.service;
 import com.sygsy.backend.domain.AcademicPeriod;
 import com.sygsy.backend.domain.User;
 import com.sygsy.backend.dto.CreateAcademicPeriodDTO;
+import com.sygsy.backend.dto.PeriodCloneResultDTO;
+import com.sygsy.backend.event.SyllabusBatchChangedEvent;
+import com.sygsy.backend.event.SyllabusChangedEvent;
 import com.sygsy.backend.repository.AcademicPeriodRepository;
+import com.sygsy.backend.repository.SyllabusRepository;
 import com.sygsy.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class AcademicPeriodService {
 
+    private static final Logger log = LoggerFactory.getLogger(AcademicPeriodService.class);
+
+    // Ids bound per IN list; a period can hold more syllabi than one statement should carry
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final AcademicPeriodRepository academicPeriodRepository;
     private final UserRepository userRepository;
+    private final SyllabusRepository syllabusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AcademicPeriodService(AcademicPeriodRepository academicPeriodRepository, UserRepository userRepository) {
+    public AcademicPeriodService(AcademicPeriodRepository academicPeriodRepository, UserRepository userRepository,
+                                 SyllabusRepository syllabusRepository, ApplicationEventPublisher eventPublisher) {
         this.academicPeriodRepository = academicPeriodRepository;
         this.userRepository = userRepository;
+        this.syllabusRepository = syllabusRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -47,18 +67,84 @@ public class AcademicPeriodService {
         return academicPeriodRepository.save(period);
     }
 
+    @Transactional(readOnly = true)
     public List<AcademicPeriod> getAllAcademicPeriods() {
         return academicPeriodRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<AcademicPeriod> getAcademicPeriodsByCoordinator(String coordinatorUsername) {
         User coordinator = userRepository.findByUsername(coordinatorUsername)
                 .orElseThrow(() -> new RuntimeException("Coordinator not found"));
         return academicPeriodRepository.findByCoordinator(coordinator);
     }
 
+    @Transactional(readOnly = true)
     public AcademicPeriod getAcademicPeriod(Long id) {
         return academicPeriodRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Academic period not found"));
     }
+
+    /**
+     * Copies the syllabi of sourceId into targetId with set-based SQL: general data always, texts,
+     * unit content and evaluation descriptions only when withContent is set. Copies start over in
+     * CREATED with the caller as coordinator; dates move by the gap between the period start dates.
+     * A coordinator with a career only copies that career. A source syllabus whose course code
+     * already exists in the target, or that was already copied there, is skipped, so the call can be
+     * repeated after adding syllabi to the source.
+     * Units, evaluations and events follow the ids the syllabi INSERT returned, in chunks of
+     * ID_CHUNK_SIZE copies.
+     */
+    @Transactional
+    public PeriodCloneResultDTO cloneFrom(Long targetId, Long sourceId, boolean withContent, String coordinatorUsername) {
+        User coordinator = userRepository.findByUsername(coordinatorUsername)
+                .orElseThrow(() -> new RuntimeException("Coordinator not found"));
+
+        if (coordinator.getRole() != User.Role.COORDINATOR) {
+            throw new RuntimeException("Only coordinators can copy academic periods");
+        }
+        if (targetId.equals(sourceId)) {
+            throw new RuntimeException("El periodo de origen y el de destino deben ser distintos.");
+        }
+
+        // Locked so two rollovers into the same period cannot both pass the "already exists" check
+        AcademicPeriod target = academicPeriodRepository.findByIdForUpdate(targetId)
+                .orElseThrow(() -> new RuntimeException("Academic period not found with ID: " + targetId));
+        AcademicPeriod source = academicPeriodRepository.findById(sourceId)
+                .orElseThrow(() -> new RuntimeException("Academic period not found with ID: " + sourceId));
+
+        int dayOffset = (int) ChronoUnit.DAYS.between(source.getStartDate(), target.getStartDate());
+        LocalDateTime now = LocalDateTime.now();
+        Long coordinatorId = coordinator.getId();
+
+        List<Object[]> copies = syllabusRepository.cloneIntoPeriod(sourceId, targetId, coordinator.getCareerId(), withContent, coordinatorId, now);
+        int syllabi = copies.size();
+        int units = 0;
+        int evaluations = 0;
+        if (syllabi > 0) {
+            List<Long> ids = new ArrayList<>(syllabi);
+            List<Long> sourceIds = new ArrayList<>(syllabi);
+            for (Object[] copy : copies) {
+                ids.add(((Number) copy[0]).longValue());
+                sourceIds.add(((Number) copy[1]).longValue());
+            }
+
+            List<SyllabusChangedEvent> changes = new ArrayList<>(syllabi);
+            for (int from = 0; from < syllabi; from += ID_CHUNK_SIZE) {
+                int to = Math.min(from + ID_CHUNK_SIZE, syllabi);
+                List<Long> chunk = ids.subList(from, to);
+                units += syllabusRepository.cloneUnitsIntoPeriod(chunk, sourceIds.subList(from, to), withContent, dayOffset, coordinatorId, now);
+                evaluations += syllabusRepository.cloneEvaluationsIntoPeriod(chunk, sourceIds.subList(from, to), withContent, dayOffset, coordinatorId, now);
+                for (SyllabusRepository.WorkflowRow row : syllabusRepository.findWorkflowRowsByIdIn(chunk)) {
+                    changes.add(new SyllabusChangedEvent(SyllabusChangedEvent.Type.CREATED, row.getId(), row.getAcademicPeriodId(),
+                            row.getCourseName(), row.getProfessorId(), null, row.getCareer(), null, row.getCareerId(), null, row.getWorkflowStatus()));
+                }
+            }
+            eventPublisher.publishEvent(new SyllabusBatchChangedEvent(changes));
+        }
+
+        log.info("Period {} cloned into {} by {}: {} syllabi, {} units, {} evaluations (content: {}).",
+                source.getName(), target.getName(), coordinatorUsername, syllabi, units, evaluations, withContent);
+        return new PeriodCloneResultDTO(sourceId, targetId, withContent, syllabi, units, evaluations);
+    }
 }
@@ -2,37 +2,79 @@ package com.sygsy.backend.service;
 
 import com.sygsy.backend.domain.Career;
 import com.sygsy.backend.repository.CareerRepository;
+import com.sygsy.backend.repository.SyllabusRepository;
+import com.sygsy.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class CareerService {
 
     private static final Logger log = LoggerFactory.getLogger(CareerService.class);
     private final CareerRepository careerRepository;
+    private final SyllabusRepository syllabusRepository;
+    private final UserRepository userRepository;
 
-    public CareerService(CareerRepository careerRepository) {
+    public CareerService(CareerRepository careerRepository, SyllabusRepository syllabusRepository, UserRepository userRepository) {
         this.careerRepository = careerRepository;
+        this.syllabusRepository = syllabusRepository;
+        this.userRepository = userRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<Career> getAllCareers() {
         List<Career> careers = careerRepository.findAll();
         log.info("Found {} careers in the database.", careers.size());
         return careers;
     }
 
+    @Transactional
     public Career createCareer(String name) {
-        if (careerRepository.findByName(name).isPresent()) {
-            throw new RuntimeException("La carrera '" + name + "' ya existe.");
+        if (name == null || name.trim().isEmpty()) {
+            throw new RuntimeException("El nombre de la carrera es obligatorio.");
         }
-        return careerRepository.save(new Career(name));
+        // "Derecho" and "DERECHO " (or "Ingenieria"/"Ingeniería") are the same career
+        careerRepository.findByNormalizedName(Career.normalize(name)).ifPresent(existing -> {
+            throw new RuntimeException("La carrera '" + existing.getName() + "' ya existe.");
+        });
+        return careerRepository.save(new Career(name.trim()));
     }
 
+    @Transactional
     public void deleteCareer(Long id) {
+        if (syllabusRepository.existsByCareerId(id) || userRepository.existsByCareerId(id)) {
+            throw new RuntimeException("La carrera tiene sílabos o usuarios asignados y no puede eliminarse.");
+        }
         careerRepository.deleteById(id);
     }
+
+    /**
+     * Catalog career for a name typed by a user or read from a spreadsheet, ignoring case,
+     * accents and spacing. Returns null for a blank name.
+     */
+    @Transactional(readOnly = true)
+    public Career resolve(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return null;
+        }
+        return careerRepository.findByNormalizedName(Career.normalize(name))
+                .orElseThrow(() -> new RuntimeException("La carrera '" + name.trim() + "' no existe en el catálogo."));
+    }
+
+    // Whole catalog keyed by normalized name, so an import resolves every row with one query
+    @Transactional(readOnly = true)
+    public Map<String, Career> catalogByNormalizedName() {
+        Map<String, Career> catalog = new HashMap<>();
+        for (Career career : careerRepository.findAll()) {
+            catalog.put(career.getNormalizedName(), career);
+        }
+        return catalog;
+    }
 }
@@ -0,0 +1,338 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.dto.UploadSessionDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Large workbooks are uploaded in chunks (init, append at an offset, complete) that are written
+ * straight to a spool file, so neither the multipart size limit nor the heap bounds the upload.
+ * After a dropped connection the client asks for the current offset and continues from there.
+ * Sessions live in memory; a periodic sweep deletes the files of sessions idle longer than the
+ * timeout. Each user may hold a limited number of open sessions and declared bytes.
+ *
+ * The spool directory may be shared by several instances, so each one writes into its own
+ * subdirectory and holds a lock on a file in it while running. On startup, subdirectories whose
+ * lock nobody holds belong to instances that are gone and are deleted.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String LOCK_FILE = ".instance.lock";
+
+    private final Path spoolDirectory;
+    private final FileChannel lockChannel;
+    private final long maxSize;
+    private final Duration idleTimeout;
+    private final int maxSessionsPerUser;
+    private final long maxBytesPerUser;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    // A lock instead of synchronized, like FlightRecordingService, so a waiting virtual thread is not pinned
+    private final ReentrantLock sessionsLock = new ReentrantLock();
+
+    public ChunkedUploadService(@Value("${sygsy.uploads.spool-dir:${java.io.tmpdir}/sygsy-uploads}") String spoolDirectory,
+                                @Value("${sygsy.uploads.max-size:512MB}") DataSize maxSize,
+                                @Value("${sygsy.uploads.idle-timeout:1h}") Duration idleTimeout,
+                                @Value("${sygsy.uploads.max-sessions-per-user:3}") int maxSessionsPerUser,
+                                @Value("${sygsy.uploads.max-bytes-per-user:1GB}") DataSize maxBytesPerUser) throws IOException {
+        Path root = Files.createDirectories(Paths.get(spoolDirectory));
+        this.maxSize = maxSize.toBytes();
+        this.idleTimeout = idleTimeout;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.maxBytesPerUser = maxBytesPerUser.toBytes();
+        deleteOrphanedSpools(root);
+        this.spoolDirectory = Files.createDirectory(root.resolve(UUID.randomUUID().toString()));
+        this.lockChannel = FileChannel.open(this.spoolDirectory.resolve(LOCK_FILE), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        lockChannel.lock(); // Released when the channel is closed, or by the OS if the process dies
+    }
+
+    public UploadSessionDTO init(String username, String fileName, long totalSize) {
+        if (totalSize <= 0 || totalSize > maxSize) {
+            throw new RuntimeException("File size must be between 1 byte and " + DataSize.ofBytes(maxSize).toMegabytes() + " MB");
+        }
+        String id = UUID.randomUUID().toString();
+        Path file = spoolDirectory.resolve(id + ".part");
+        Session session = new Session(id, username, fileName, totalSize, file);
+        // Created before taking the lock, so no file system call runs inside it
+        try {
+            Files.createFile(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create upload: " + e.getMessage());
+        }
+        // Checked and registered together, so parallel inits of one user cannot both pass the limits
+        sessionsLock.lock();
+        try {
+            int open = 0;
+            long declared = totalSize;
+            for (Session other : sessions.values()) {
+                if (other.owner.equals(username)) {
+                    open++;
+                    declared += other.totalSize;
+                }
+            }
+            if (open >= maxSessionsPerUser) {
+                throw new RuntimeException("You already have " + open + " uploads in progress; finish or cancel one first");
+            }
+            if (declared > maxBytesPerUser) {
+                throw new RuntimeException("Your uploads in progress would exceed " + DataSize.ofBytes(maxBytesPerUser).toMegabytes() + " MB");
+            }
+            sessions.put(id, session);
+        } catch (RuntimeException e) {
+            delete(session);
+            throw e;
+        } finally {
+            sessionsLock.unlock();
+        }
+        log.info("Chunked upload {} of {} started: '{}' ({} bytes).", id, username, fileName, totalSize);
+        return session.toDTO();
+    }
+
+    public UploadSessionDTO status(String id, String username) {
+        return find(id, username).toDTO();
+    }
+
+    /**
+     * Writes the request body at offset, which must be the number of bytes received so far. Bytes
+     * of a chunk cut off by a dropped connection are kept, and the returned offset says where to resume.
+     */
+    public UploadSessionDTO append(String id, String username, long offset, InputStream body) {
+        Session session = find(id, username);
+        if (!session.lock.tryLock()) {
+            throw new RuntimeException("Another chunk of this upload is still being written");
+        }
+        try {
+            if (offset != session.received) {
+                throw new RuntimeException("Chunk starts at byte " + offset + " but the upload continues at byte " + session.received);
+            }
+            try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+                channel.position(offset);
+                ReadableByteChannel source = Channels.newChannel(body);
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                try {
+                    while (source.read(buffer) != -1) {
+                        buffer.flip();
+                        if (channel.position() + buffer.remaining() > session.totalSize) {
+                            throw new RuntimeException("Chunk goes past the declared size of " + session.totalSize + " bytes");
+                        }
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                        buffer.clear();
+                    }
+                } finally {
+                    // Whatever reached the file counts, even if the client went away mid-chunk
+                    session.received = channel.position();
+                    session.touch();
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Upload interrupted at byte " + session.received + ": " + e.getMessage());
+            }
+            return session.toDTO();
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the completed file to the importer and closes the upload once the import succeeds. If
+     * the importer fails (a row that does not validate, say), the upload stays open and the file is
+     * kept, so the client can call complete again or abort it. The session is locked throughout, so
+     * a second complete call for the same upload is rejected while the first runs.
+     */
+    public <T> T complete(String id, String username, Function<ImportFile, T> importer) {
+        Session session = find(id, username);
+        if (!session.lock.tryLock()) {
+            throw new RuntimeException("This upload is being written, read or imported by another request");
+        }
+        try {
+            if (sessions.get(id) != session) {
+                throw new RuntimeException("Upload not found or expired"); // Imported or aborted while we waited
+            }
+            if (session.received != session.totalSize) {
+                throw new RuntimeException("Upload is incomplete: " + session.received + " of " + session.totalSize + " bytes received");
+            }
+            T result;
+            try {
+                result = importer.apply(ImportFile.of(session.file, session.fileName));
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read upload: " + e.getMessage());
+            }
+            sessions.remove(id);
+            delete(session);
+            return result;
+        } finally {
+            session.touch();
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Lets reader go through the completed file without closing the session, so the same upload can
+     * still be imported afterwards (used by dry runs). Chunks, complete and abort are rejected while
+     * it runs.
+     */
+    public void read(String id, String username, Consumer<ImportFile> reader) {
+        Session session = find(id, username);
+        if (!session.lock.tryLock()) {
+            throw new RuntimeException("This upload is being written or read by another request");
+        }
+        try {
+            if (session.received != session.totalSize) {
+                throw new RuntimeException("Upload is incomplete: " + session.received + " of " + session.totalSize + " bytes received");
+            }
+            reader.accept(ImportFile.of(session.file, session.fileName));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read upload: " + e.getMessage());
+        } finally {
+            session.touch();
+            session.lock.unlock();
+        }
+    }
+
+    public void abort(String id, String username) {
+        Session session = find(id, username);
+        if (!session.lock.tryLock()) {
+            throw new RuntimeException("A chunk of this upload is still being written");
+        }
+        try {
+            sessions.remove(id);
+            delete(session);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    private Session find(String id, String username) {
+        Session session = sessions.get(id);
+        // Someone else's upload is reported like a missing one
+        if (session == null || !session.owner.equals(username)) {
+            throw new RuntimeException("Upload not found or expired");
+        }
+        return session;
+    }
+
+    @Scheduled(fixedDelayString = "${sygsy.uploads.sweep-interval-ms:60000}")
+    public void expireIdleSessions() {
+        long cutoff = System.currentTimeMillis() - idleTimeout.toMillis();
+        sessions.values().removeIf(session -> {
+            if (session.lastTouched >= cutoff || !session.lock.tryLock()) {
+                return false;
+            }
+            try {
+                log.info("Chunked upload {} of {} expired at {} of {} bytes.", session.id, session.owner, session.received, session.totalSize);
+                delete(session);
+                return true;
+            } finally {
+                session.lock.unlock();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            lockChannel.close();
+            deleteTree(spoolDirectory);
+        } catch (IOException e) {
+            log.warn("Could not delete upload spool directory {}", spoolDirectory, e);
+        }
+    }
+
+    // Sessions do not survive their instance, so a subdirectory nobody holds the lock of is orphaned
+    private static void deleteOrphanedSpools(Path root) throws IOException {
+        try (DirectoryStream<Path> spools = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path spool : spools) {
+                Path lockFile = spool.resolve(LOCK_FILE);
+                if (!Files.exists(lockFile)) {
+                    continue; // Not ours, or an instance that has not taken its lock yet
+                }
+                boolean orphaned;
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+                    FileLock lock = channel.tryLock();
+                    orphaned = lock != null;
+                } catch (OverlappingFileLockException e) {
+                    orphaned = false; // Held by another service instance in this JVM
+                }
+                if (orphaned) {
+                    log.info("Deleting upload spool {} left by an instance that is no longer running.", spool);
+                    deleteTree(spool);
+                }
+            }
+        }
+    }
+
+    private static void deleteTree(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static void delete(Session session) {
+        try {
+            Files.deleteIfExists(session.file);
+        } catch (IOException e) {
+            log.warn("Could not delete upload spool file {}", session.file, e);
+        }
+    }
+
+    private static final class Session {
+        final String id;
+        final String owner;
+        final String fileName;
+        final long totalSize;
+        final Path file;
+        final ReentrantLock lock = new ReentrantLock();
+        volatile long received;
+        volatile long lastTouched = System.currentTimeMillis();
+
+        Session(String id, String owner, String fileName, long totalSize, Path file) {
+            this.id = id;
+            this.owner = owner;
+            this.fileName = fileName;
+            this.totalSize = totalSize;
+            this.file = file;
+        }
+
+        void touch() {
+            lastTouched = System.currentTimeMillis();
+        }
+
+        UploadSessionDTO toDTO() {
+            return new UploadSessionDTO(id, fileName, totalSize, received);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.Career;
+import com.sygsy.backend.domain.Syllabus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Where each field of the bulk import layout sits in a sheet, worked out once from its header row.
+ * Headers are matched ignoring case, accents, spacing and hyphens, so reordered or extra columns are fine;
+ * a header that names none of the fields keeps the fixed 14-column order of ExcelService.HEADER.
+ * A header that names some fields must name every field the import reads: a misspelled column
+ * would otherwise leave that field empty on every row without anyone noticing.
+ * Immutable, so one instance can be shared by any number of parsers.
+ */
+final class ColumnMapping {
+
+    enum Type {
+        TEXT,
+        INTEGER,
+        IGNORED
+    }
+
+    // Declared in the order of ExcelService.HEADER, which is also the positional fallback
+    enum Field {
+        FACULTY(Type.TEXT, (s, v) -> s.setFaculty((String) v), "Facultad"),
+        CAREER(Type.TEXT, (s, v) -> s.setCareer((String) v), "Carrera", "Carrera Profesional"),
+        PERIOD(Type.IGNORED, null, "Periodo", "Periodo Académico"), // The period comes from the request
+        SEMESTER(Type.TEXT, (s, v) -> s.setSemester((String) v), "Semestre", "Ciclo"),
+        CREDITS(Type.INTEGER, (s, v) -> s.setCredits((Integer) v), "Créditos"),
+        TOTAL_HOURS(Type.INTEGER, (s, v) -> s.setTotalHours((Integer) v), "Horas Totales"),
+        THEORY_HOURS(Type.INTEGER, (s, v) -> s.setTheoryHours((Integer) v), "Horas Teoría", "Horas Teóricas"),
+        PRACTICE_HOURS(Type.INTEGER, (s, v) -> s.setPracticeHours((Integer) v), "Horas Práctica", "Horas Prácticas"),
+        TRAINING_AREA(Type.TEXT, (s, v) -> s.setTrainingArea((String) v), "Área de Formación", "Área"),
+        COURSE_CODE(Type.TEXT, (s, v) -> s.setCourseCode((String) v), "Código", "Código del Curso"),
+        COURSE_NAME(Type.TEXT, (s, v) -> s.setCourseName((String) v), "Curso", "Nombre del Curso", "Asignatura", "Nombre Curso"),
+        COURSE_TYPE(Type.TEXT, (s, v) -> s.setCourseType((String) v), "Tipo", "Tipo de Curso"),
+        PREREQUISITES(Type.TEXT, (s, v) -> s.setPrerequisites((String) v), "Prerrequisitos", "Prerequisitos"),
+        PROFESSOR_EMAIL(Type.TEXT, (s, v) -> s.setProfessorEmail((String) v), "Correo Docente", "Correo del Docente",
+                "Email Docente", "Email Profesor");
+
+        private final Type type;
+        private final BiConsumer<Syllabus, Object> setter;
+        private final String[] headers;
+
+        Field(Type type, BiConsumer<Syllabus, Object> setter, String... headers) {
+            this.type = type;
+            this.setter = setter;
+            this.headers = headers;
+        }
+
+        Type type() {
+            return type;
+        }
+
+        // The column name the export writes
+        String header() {
+            return headers[0];
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+
+    private static final Map<String, Field> BY_HEADER = new HashMap<>();
+
+    static {
+        for (Field field : FIELDS) {
+            for (String header : field.headers) {
+                BY_HEADER.put(headerKey(header), field);
+            }
+        }
+    }
+
+    static final ColumnMapping POSITIONAL = positional();
+
+    // "PRE-REQUISITOS" and "Prerrequisitos" name the same column
+    private static String headerKey(String header) {
+        return Career.normalize(header.replace("-", ""));
+    }
+
+    // Source column of each field (by ordinal), -1 when the sheet does not have it
+    private final int[] columns;
+    private final int width;
+
+    private ColumnMapping(int[] columns) {
+        this.columns = columns;
+        this.width = Arrays.stream(columns).max().orElse(-1) + 1;
+    }
+
+    private static ColumnMapping positional() {
+        int[] columns = new int[FIELDS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = i;
+        }
+        return new ColumnMapping(columns);
+    }
+
+    /**
+     * Compiles the mapping for a header row; a null entry is an empty header cell. Fails with the
+     * missing and unrecognized columns when the header matches only part of the layout.
+     */
+    static ColumnMapping compile(List<String> header) {
+        int[] columns = new int[FIELDS.length];
+        Arrays.fill(columns, -1);
+        boolean matched = false;
+        List<String> unknown = new ArrayList<>(0);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            Field field = name != null ? BY_HEADER.get(headerKey(name)) : null;
+            // The first column with a given header wins
+            if (field != null && columns[field.ordinal()] == -1) {
+                columns[field.ordinal()] = i;
+                matched = true;
+            } else if (field == null && name != null && !name.isBlank()) {
+                unknown.add(name.trim());
+            }
+        }
+        if (!matched) {
+            return POSITIONAL;
+        }
+
+        List<String> missing = new ArrayList<>(0);
+        for (Field field : FIELDS) {
+            if (field.type != Type.IGNORED && columns[field.ordinal()] == -1) {
+                missing.add(field.header());
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Faltan columnas en el encabezado: " + String.join(", ", missing)
+                    + (unknown.isEmpty() ? "." : ". Columnas no reconocidas: " + String.join(", ", unknown) + "."));
+        }
+        return new ColumnMapping(columns);
+    }
+
+    /** Number of source columns worth reading; anything to the right of it is ignored. */
+    int width() {
+        return width;
+    }
+
+    int column(Field field) {
+        return columns[field.ordinal()];
+    }
+
+    /** The raw text of a field in a row laid out by source column, or "" if missing. */
+    String text(String[] cells, Field field) {
+        int column = columns[field.ordinal()];
+        String value = column >= 0 && column < cells.length ? cells[column] : null;
+        return value != null ? value : "";
+    }
+
+    /** A row is a syllabus only if its faculty cell has text, as in the original layout. */
+    boolean isDataRow(String[] cells) {
+        return !text(cells, Field.FACULTY).trim().isEmpty();
+    }
+
+    /**
+     * Builds the syllabus for one row. Integer columns accept whole or decimal numbers (truncated);
+     * anything else in them becomes 0, as before.
+     */
+    Syllabus toSyllabus(String[] cells) {
+        Syllabus syllabus = new Syllabus();
+        for (Field field : FIELDS) {
+            switch (field.type) {
+                case TEXT -> field.setter.accept(syllabus, text(cells, field));
+                case INTEGER -> field.setter.accept(syllabus, parseInteger(text(cells, field)));
+                case IGNORED -> {
+                }
+            }
+        }
+        syllabus.setWorkflowStatus(Syllabus.SyllabusStatus.CREATED);
+        return syllabus;
+    }
+
+    /**
+     * Integer fields of the row whose cell holds text that is not a whole number. toSyllabus reads
+     * those as 0 or truncates them, so they are worth reporting before an import.
+     */
+    List<Field> invalidIntegers(String[] cells) {
+        List<Field> invalid = new ArrayList<>(0);
+        for (Field field : FIELDS) {
+            if (field.type != Type.INTEGER) {
+                continue;
+            }
+            String value = text(cells, field).trim();
+            if (!value.isEmpty() && !isWholeNumber(value)) {
+                invalid.add(field);
+            }
+        }
+        return invalid;
+    }
+
+    private static boolean isWholeNumber(String value) {
+        try {
+            double number = Double.parseDouble(value);
+            return number == Math.rint(number) && Math.abs(number) <= Integer.MAX_VALUE;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /** The whole-number value of a cell, or null if it is blank or not a number. */
+    static Integer integerOrNull(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return (int) Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int parseInteger(String value) {
+        Integer parsed = integerOrNull(value);
+        return parsed != null ? parsed : 0;
+    }
+}
@@ -0,0 +1,212 @@
+package com.sygsy.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Record reader for the CSV exports of the registrar system. Characters are decoded into one reused
+ * buffer and fields are cut straight out of it: no line strings, no split, and no string at all for
+ * columns the caller does not ask for. Quoted fields (RFC 4180, with "" as an escaped quote) may
+ * contain delimiters and line breaks. The delimiter (comma, semicolon or tab) is guessed from the
+ * first line. Not thread-safe; one instance per file.
+ */
+final class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // A single field longer than this is not a course catalog
+    private static final int MAX_FIELD_LENGTH = 1024 * 1024;
+
+    private final Reader reader;
+    private final StringBuilder quoted = new StringBuilder();
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    // Start of the field being scanned, kept in the buffer when it is refilled
+    private int mark;
+    private final char delimiter;
+
+    CsvReader(Reader reader) throws IOException {
+        this.reader = reader;
+        fill();
+        if (limit > 0 && buffer[0] == '\uFEFF') {
+            position = 1; // Byte order mark written by Excel's "CSV UTF-8"
+        }
+        this.delimiter = detectDelimiter();
+    }
+
+    /**
+     * Reads the next record into cells by column: columns past cells.length are skipped without
+     * being copied, and columns the record does not have are left untouched. When all is not null,
+     * every field is also appended to it (used for the header). Returns false at the end of input.
+     */
+    boolean readRecord(String[] cells, List<String> all) throws IOException {
+        if (peek() == -1) {
+            return false;
+        }
+        int column = 0;
+        while (true) {
+            boolean wanted = all != null || column < cells.length;
+            String value;
+            int next;
+            if (peek() == '"') {
+                position++;
+                readQuoted();
+                next = peek();
+                // Anything between the closing quote and the delimiter is kept, as spreadsheets do
+                while (next != -1 && next != delimiter && next != '\n' && next != '\r') {
+                    quoted.append((char) next);
+                    position++;
+                    next = peek();
+                }
+                value = wanted ? quoted.toString() : null;
+            } else {
+                next = scanUnquoted();
+                value = wanted ? new String(buffer, mark, position - mark) : null;
+            }
+            if (column < cells.length) {
+                cells[column] = value;
+            }
+            if (all != null) {
+                all.add(value);
+            }
+
+            if (next == delimiter) {
+                position++;
+                column++;
+            } else {
+                if (next == '\r') {
+                    position++;
+                    if (peek() == '\n') {
+                        position++;
+                    }
+                } else if (next == '\n') {
+                    position++;
+                }
+                return true;
+            }
+        }
+    }
+
+    // Advances to the delimiter or line break ending the field; the field is buffer[mark, position)
+    private int scanUnquoted() throws IOException {
+        mark = position;
+        while (true) {
+            char[] chars = buffer;
+            int i = position;
+            int end = limit;
+            while (i < end) {
+                char c = chars[i];
+                if (c == delimiter || c == '\n' || c == '\r') {
+                    position = i;
+                    return c;
+                }
+                i++;
+            }
+            position = i;
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
+    // Reads up to and including the closing quote into the quoted builder
+    private void readQuoted() throws IOException {
+        quoted.setLength(0);
+        while (true) {
+            int i = position;
+            while (i < limit && buffer[i] != '"') {
+                i++;
+            }
+            quoted.append(buffer, position, i - position);
+            position = i;
+            if (quoted.length() > MAX_FIELD_LENGTH) {
+                throw new RuntimeException("CSV field longer than " + MAX_FIELD_LENGTH + " characters");
+            }
+            if (i == limit) {
+                mark = position;
+                if (!fill()) {
+                    throw new RuntimeException("CSV file ends inside a quoted field");
+                }
+                continue;
+            }
+            position++; // The quote
+            if (peek() == '"') {
+                quoted.append('"');
+                position++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            mark = position;
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    // Moves the field being scanned (from mark) to the front, growing the buffer only if that field
+    // already fills it, and reads more characters after it
+    private boolean fill() throws IOException {
+        if (mark > 0) {
+            int kept = limit - mark;
+            System.arraycopy(buffer, mark, buffer, 0, kept);
+            position -= mark;
+            limit = kept;
+            mark = 0;
+        }
+        if (limit == buffer.length) {
+            if (buffer.length >= MAX_FIELD_LENGTH) {
+                throw new RuntimeException("CSV field longer than " + MAX_FIELD_LENGTH + " characters");
+            }
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    // The most frequent of comma, semicolon and tab outside quotes in the first buffered line
+    private char detectDelimiter() {
+        int commas = 0;
+        int semicolons = 0;
+        int tabs = 0;
+        boolean inQuotes = false;
+        for (int i = position; i < limit; i++) {
+            char c = buffer[i];
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes) {
+                if (c == '\n' || c == '\r') {
+                    break;
+                } else if (c == ',') {
+                    commas++;
+                } else if (c == ';') {
+                    semicolons++;
+                } else if (c == '\t') {
+                    tabs++;
+                }
+            }
+        }
+        if (semicolons > commas && semicolons >= tabs) {
+            return ';';
+        }
+        return tabs > commas ? '\t' : ',';
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,177 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.dto.DashboardStatsDTO;
+import com.sygsy.backend.event.SyllabusBatchChangedEvent;
+import com.sygsy.backend.event.SyllabusChangedEvent;
+import com.sygsy.backend.repository.SyllabusRepository;
+import com.sygsy.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps syllabus totals per (academic period, career, workflow status) in memory so the dashboard
+ * never has to download or count syllabi. Counters are seeded once from a grouped count and then
+ * maintained from SyllabusChangedEvent after each transaction commits.
+ */
+@Service
+public class DashboardStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatsService.class);
+
+    private final SyllabusRepository syllabusRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate seedTransaction;
+    // Replaced as a whole by seed(), never cleared in place
+    private volatile Map<Key, LongAdder> counters = new ConcurrentHashMap<>();
+    // Listeners share the read lock; seed() takes the write lock to start and to finish
+    private final ReadWriteLock seedLock = new ReentrantReadWriteLock();
+    // Changes committed while seed() is counting, replayed onto its map; null when no seed runs
+    private Queue<SyllabusChangedEvent> pendingChanges;
+
+    public DashboardStatsService(SyllabusRepository syllabusRepository, UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.syllabusRepository = syllabusRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Counts into a new map and swaps it in. The count runs in a REPEATABLE READ transaction on the
+     * primary, so it reads one snapshot and never a lagging replica. The queue opens under the write
+     * lock right after that snapshot is taken: a change the count cannot see commits after the
+     * snapshot, so its listener finds the queue open and the change is replayed onto the new map.
+     * A change the count already includes is applied to the old map, which is discarded, unless its
+     * thread was still between the commit and the AFTER_COMMIT callback when the snapshot was taken.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        Map<Key, LongAdder> seeded = new ConcurrentHashMap<>();
+        boolean counted = false;
+        try {
+            seedTransaction.executeWithoutResult(status -> {
+                seedLock.writeLock().lock();
+                try {
+                    // The first statement of the transaction fixes its snapshot
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                    pendingChanges = new ConcurrentLinkedQueue<>();
+                } finally {
+                    seedLock.writeLock().unlock();
+                }
+                for (Object[] row : syllabusRepository.countGroupedByPeriodCareerAndStatus()) {
+                    Key key = new Key((Long) row[0], (Long) row[1], (Syllabus.SyllabusStatus) row[2]);
+                    seeded.computeIfAbsent(key, k -> new LongAdder()).add((Long) row[3]);
+                }
+            });
+            counted = true;
+        } finally {
+            // A failed count keeps the old map, which still needs the queued changes
+            Map<Key, LongAdder> target = counted ? seeded : counters;
+            seedLock.writeLock().lock();
+            try {
+                if (pendingChanges != null) {
+                    pendingChanges.forEach(change -> apply(target, change));
+                    pendingChanges = null;
+                }
+                counters = target;
+            } finally {
+                seedLock.writeLock().unlock();
+            }
+        }
+        log.info("Dashboard counters seeded with {} groups.", seeded.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSyllabusChanged(SyllabusChangedEvent event) {
+        record(List.of(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSyllabusBatchChanged(SyllabusBatchChangedEvent batch) {
+        record(batch.getChanges());
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardStatsDTO getStats(String username, Long academicPeriodId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Map<Syllabus.SyllabusStatus, Long> totals = new EnumMap<>(Syllabus.SyllabusStatus.class);
+
+        if (user.getRole() == User.Role.PROFESSOR) {
+            // Professors only see their own syllabi, which the (period, career) counters cannot express
+            for (Object[] row : syllabusRepository.countByProfessorGroupedByStatus(user)) {
+                totals.put((Syllabus.SyllabusStatus) row[0], (Long) row[1]);
+            }
+        } else if (user.getRole() == User.Role.COORDINATOR) {
+            Long careerId = user.getCareerId();
+            counters.forEach((key, adder) -> {
+                if (academicPeriodId != null && !academicPeriodId.equals(key.academicPeriodId())) return;
+                if (careerId != null && !careerId.equals(key.careerId())) return;
+                totals.merge(key.status(), adder.sum(), Long::sum);
+            });
+        }
+
+        return new DashboardStatsDTO(
+                totals.getOrDefault(Syllabus.SyllabusStatus.CREATED, 0L),
+                totals.getOrDefault(Syllabus.SyllabusStatus.ASSIGNED, 0L),
+                totals.getOrDefault(Syllabus.SyllabusStatus.SUBMITTED, 0L),
+                totals.getOrDefault(Syllabus.SyllabusStatus.APPROVED, 0L),
+                totals.getOrDefault(Syllabus.SyllabusStatus.RETURNED, 0L));
+    }
+
+    private void record(List<SyllabusChangedEvent> changes) {
+        seedLock.readLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            } else {
+                Map<Key, LongAdder> current = counters;
+                changes.forEach(change -> apply(current, change));
+            }
+        } finally {
+            seedLock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Map<Key, LongAdder> target, SyllabusChangedEvent event) {
+        if (event.getPreviousStatus() != null) {
+            counter(target, event.getAcademicPeriodId(), event.getPreviousCareerId(), event.getPreviousStatus()).decrement();
+        }
+        if (event.getStatus() != null) {
+            counter(target, event.getAcademicPeriodId(), event.getCareerId(), event.getStatus()).increment();
+        }
+    }
+
+    private static LongAdder counter(Map<Key, LongAdder> target, Long academicPeriodId, Long careerId, Syllabus.SyllabusStatus status) {
+        return target.computeIfAbsent(new Key(academicPeriodId, careerId, status), k -> new LongAdder());
+    }
+
+    // careerId may be null (syllabi without career); records compare it with Objects.equals
+    private record Key(Long academicPeriodId, Long careerId, Syllabus.SyllabusStatus status) {
+    }
+}
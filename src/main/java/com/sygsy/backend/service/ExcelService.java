@@ -1,108 +1,507 @@
 package com.sygsy.backend.service;
 
 import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.jfr.ExcelParseEvent;
+import com.sygsy.backend.repository.SyllabusRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 @Service
 public class ExcelService {
 
     private static final Logger log = LoggerFactory.getLogger(ExcelService.class);
 
+    // Column order of "I. DATOS GENERALES" shared by import and export
+    static final String[] HEADER = {"Facultad", "Carrera", "Periodo", "Semestre", "Créditos", "Horas Totales", "Horas Teoría",
+            "Horas Práctica", "Área de Formación", "Código", "Curso", "Tipo", "Prerrequisitos", "Correo Docente"};
+
+    // Rows kept in memory by SXSSF; older ones are flushed to a compressed temp file
+    private static final int EXPORT_WINDOW = 200;
+
+    private static final int MAX_ARCHIVE_WORKBOOKS = 100;
+
+    private final Timer parseTimer;
+    private final Timer exportTimer;
+    private final Counter exportRowsCounter;
+    private final Counter rowsCounter;
+    private final DistributionSummary throughputSummary;
+    private final AsyncTaskExecutor jobExecutor;
+    private final long maxArchiveBytes;
+
+    public ExcelService(MeterRegistry meterRegistry, @Qualifier("jobExecutor") AsyncTaskExecutor jobExecutor,
+                        @Value("${sygsy.uploads.max-size:512MB}") DataSize maxArchiveSize) {
+        this.jobExecutor = jobExecutor;
+        this.maxArchiveBytes = maxArchiveSize.toBytes();
+        this.parseTimer = Timer.builder("sygsy.excel.parse")
+                .description("Time to parse an uploaded syllabus workbook")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rowsCounter = Counter.builder("sygsy.excel.rows")
+                .description("Syllabus rows parsed from uploaded workbooks")
+                .register(meterRegistry);
+        this.throughputSummary = DistributionSummary.builder("sygsy.excel.parse.throughput")
+                .description("Rows parsed per second, per workbook")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("sygsy.excel.export")
+                .description("Time to stream a syllabus catalog export")
+                .register(meterRegistry);
+        this.exportRowsCounter = Counter.builder("sygsy.excel.export.rows")
+                .description("Syllabus rows written to exported workbooks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes the rows in the layout parseAllSyllabi reads, so an export can be edited and uploaded
+     * again. Heap use is bounded by the SXSSF window, not by the number of rows. Returns the row count.
+     */
+    public long writeSyllabi(Stream<SyllabusRepository.ExportRow> rows, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXPORT_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet("Sílabos");
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < HEADER.length; i++) {
+                headerRow.createCell(i).setCellValue(HEADER[i]);
+            }
+
+            int rowNumber = 1;
+            Iterator<SyllabusRepository.ExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                SyllabusRepository.ExportRow syllabus = iterator.next();
+                Row row = sheet.createRow(rowNumber++);
+                setText(row, 0, syllabus.getFaculty());
+                setText(row, 1, syllabus.getCareer());
+                setText(row, 2, syllabus.getPeriodName());
+                setText(row, 3, syllabus.getSemester());
+                setNumber(row, 4, syllabus.getCredits());
+                setNumber(row, 5, syllabus.getTotalHours());
+                setNumber(row, 6, syllabus.getTheoryHours());
+                setNumber(row, 7, syllabus.getPracticeHours());
+                setText(row, 8, syllabus.getTrainingArea());
+                setText(row, 9, syllabus.getCourseCode());
+                setText(row, 10, syllabus.getCourseName());
+                setText(row, 11, syllabus.getCourseType());
+                setText(row, 12, syllabus.getPrerequisites());
+                setText(row, 13, syllabus.getProfessorEmail());
+            }
+            workbook.write(out);
+
+            long written = rowNumber - 1L;
+            exportTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            exportRowsCounter.increment(written);
+            return written;
+        } finally {
+            workbook.dispose(); // Deletes the temp file
+            workbook.close();
+        }
+    }
+
+    // Nulls are left as blank cells, which the parser reads back as "" / 0
+    private static void setText(Row row, int index, String value) {
+        if (value != null) {
+            row.createCell(index).setCellValue(value);
+        }
+    }
+
+    private static void setNumber(Row row, int index, Integer value) {
+        if (value != null) {
+            row.createCell(index).setCellValue(value);
+        }
+    }
+
     public List<Syllabus> parseAllSyllabi(MultipartFile file) {
-        List<Syllabus> syllabi = new ArrayList<>();
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rows = sheet.iterator();
-
-            int rowNumber = 0;
-            while (rows.hasNext()) {
-                Row currentRow = rows.next();
-
-                // Skip header
-                if (rowNumber == 0) {
-                    rowNumber++;
-                    continue;
-                }
+        return parseAllSyllabi(ImportFile.of(file));
+    }
 
-                try {
-                    // Check if row is empty (first cell is empty)
-                    if (currentRow.getCell(0) == null || getStringValue(currentRow, 0).trim().isEmpty()) {
-                        continue;
-                    }
-
-                    Syllabus syllabus = new Syllabus();
-                    // Assuming specific column order based on "I. DATOS GENERALES"
-                    // 0: Faculty, 1: Career, 2: Period (ignored here), 3: Semester, 4: Credits, ...
-                    
-                    syllabus.setFaculty(getStringValue(currentRow, 0));
-                    log.info("Parsed Row {}: Faculty='{}', Course='{}'", rowNumber, getStringValue(currentRow, 0), getStringValue(currentRow, 10));
-
-                    syllabus.setCareer(getStringValue(currentRow, 1));
-                    // Skip column 2 (Period)
-                    syllabus.setSemester(getStringValue(currentRow, 3));
-                    syllabus.setCredits(getNumericValue(currentRow, 4).intValue());
-                    syllabus.setTotalHours(getNumericValue(currentRow, 5).intValue());
-                    syllabus.setTheoryHours(getNumericValue(currentRow, 6).intValue());
-                    syllabus.setPracticeHours(getNumericValue(currentRow, 7).intValue());
-                    syllabus.setTrainingArea(getStringValue(currentRow, 8));
-                    syllabus.setCourseCode(getStringValue(currentRow, 9));
-                    syllabus.setCourseName(getStringValue(currentRow, 10));
-                    syllabus.setCourseType(getStringValue(currentRow, 11));
-                    syllabus.setPrerequisites(getStringValue(currentRow, 12));
-                    syllabus.setProfessorEmail(getStringValue(currentRow, 13));
-
-                    // Default workflow status
-                    syllabus.setWorkflowStatus(Syllabus.SyllabusStatus.CREATED);
-
-                    syllabi.add(syllabus);
-                    rowNumber++;
-                } catch (Exception e) {
-                    log.error("Error parsing row " + rowNumber, e);
-                    // Continue to next row or throw? For bulk, maybe log and continue is better, 
-                    // but for strictness let's catch and log, maybe tracking errors.
+    /**
+     * Reads every sheet of the workbook, of every workbook in a .zip archive, or a .csv export. Sheets
+     * are parsed concurrently on jobExecutor with the SAX event model, each with its own handler,
+     * formatter and column mapping; rows come back in file and sheet order. Each sheet starts with a
+     * header row, whose column names decide where every field is read from (see ColumnMapping); a
+     * sheet after the first whose header names no column is skipped.
+     */
+    public List<Syllabus> parseAllSyllabi(ImportFile file) {
+        ExcelParseEvent event = new ExcelParseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<Syllabus> syllabi = parse(file, event);
+        long elapsed = System.nanoTime() - start;
+        parseTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        rowsCounter.increment(syllabi.size());
+        throughputSummary.record(syllabi.size() / Math.max(elapsed / 1e9, 1e-6));
+        event.end();
+        if (event.shouldCommit()) {
+            event.fileName = file.getFileName();
+            event.fileSize = file.getSize();
+            event.rows = syllabi.size();
+            event.commit();
+        }
+        return syllabi;
+    }
+
+    /**
+     * Streams the data rows of the upload to handler on the calling thread, one sheet after another,
+     * without building syllabi or keeping rows in memory, so a caller can report on a file while it
+     * is still being read.
+     */
+    void readRows(ImportFile file, RowHandler handler) {
+        List<Path> extracted = new ArrayList<>();
+        List<OPCPackage> packages = new ArrayList<>();
+        try {
+            if (isCsv(file)) {
+                parseCsv(file, handler);
+                return;
+            }
+            openWorkbooks(file, extracted, packages);
+            for (OPCPackage pkg : packages) {
+                forEachSheet(pkg, (sheet, sheetName, first, styles, strings) -> parseSheet(sheet, sheetName, first, styles, strings, handler));
+            }
+        } catch (IOException | OpenXML4JException | SAXException e) {
+            throw new RuntimeException("Fail to parse Excel file: " + e.getMessage());
+        } finally {
+            release(packages, extracted);
+        }
+    }
+
+    private List<Syllabus> parse(ImportFile file, ExcelParseEvent event) {
+        List<Path> extracted = new ArrayList<>();
+        List<OPCPackage> packages = new ArrayList<>();
+        List<String> sheetNames = new ArrayList<>();
+        List<Future<List<Syllabus>>> sheets = new ArrayList<>();
+        try {
+            List<Syllabus> syllabi = new ArrayList<>();
+            if (isCsv(file)) {
+                parseCsv(file, collect(syllabi));
+            } else {
+                openWorkbooks(file, extracted, packages);
+                for (OPCPackage pkg : packages) {
+                    forEachSheet(pkg, (sheet, sheetName, first, styles, strings) -> {
+                        sheetNames.add(sheetName);
+                        sheets.add(jobExecutor.submit(() -> {
+                            List<Syllabus> rows = new ArrayList<>();
+                            parseSheet(sheet, sheetName, first, styles, strings, collect(rows));
+                            return rows;
+                        }));
+                    });
                 }
+                for (Future<List<Syllabus>> sheet : sheets) {
+                    syllabi.addAll(await(sheet));
+                }
+                event.sheet = String.join(", ", sheetNames);
             }
-            
+
             if (syllabi.isEmpty()) {
                 throw new RuntimeException("The Excel file contains no valid data rows.");
             }
-            
             return syllabi;
-        } catch (IOException e) {
+        } catch (IOException | OpenXML4JException | SAXException e) {
             throw new RuntimeException("Fail to parse Excel file: " + e.getMessage());
+        } finally {
+            // Sheets still running read from the packages, so they have to finish before these close
+            for (Future<List<Syllabus>> sheet : sheets) {
+                try {
+                    sheet.get();
+                } catch (Exception ignored) {
+                    // Already reported through await, or superseded by the exception being thrown
+                }
+            }
+            release(packages, extracted);
         }
     }
 
-    private final DataFormatter dataFormatter = new DataFormatter();
+    private static RowHandler collect(List<Syllabus> syllabi) {
+        return (source, rowNumber, mapping, cells) -> syllabi.add(mapping.toSyllabus(cells));
+    }
 
-    private String getStringValue(Row row, int index) {
-        Cell cell = row.getCell(index);
-        return dataFormatter.formatCellValue(cell);
+    private void openWorkbooks(ImportFile file, List<Path> extracted, List<OPCPackage> packages) throws IOException, InvalidFormatException {
+        if (isArchive(file)) {
+            extractWorkbooks(file, extracted);
+            for (Path workbook : extracted) {
+                packages.add(OPCPackage.open(workbook.toFile(), PackageAccess.READ));
+            }
+        } else {
+            packages.add(openPackage(file));
+        }
     }
 
-    private Double getNumericValue(Row row, int index) {
-        Cell cell = row.getCell(index);
-        if (cell == null) return 0.0;
-        
+    private static void release(List<OPCPackage> packages, List<Path> extracted) {
+        for (OPCPackage pkg : packages) {
+            pkg.revert(); // Closes a read-only package without writing it back
+        }
+        for (Path workbook : extracted) {
+            try {
+                Files.deleteIfExists(workbook);
+            } catch (IOException e) {
+                log.warn("Could not delete extracted workbook {}", workbook, e);
+            }
+        }
+    }
+
+    private static void forEachSheet(OPCPackage pkg, SheetVisitor visitor) throws IOException, OpenXML4JException, SAXException {
+        XSSFReader reader = new XSSFReader(pkg);
+        // Shared strings and styles are read once per workbook and only read by the sheet parsers
+        SharedStrings strings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styles = reader.getStylesTable();
+        XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+        boolean first = true;
+        while (iterator.hasNext()) {
+            InputStream sheet = iterator.next();
+            visitor.visit(sheet, iterator.getSheetName(), first, styles, strings);
+            first = false;
+        }
+    }
+
+    private static void parseSheet(InputStream sheet, String sheetName, boolean first, StylesTable styles, SharedStrings strings,
+                                   RowHandler handler) {
+        SheetRows rows = new SheetRows(sheetName, first, handler);
+        try (InputStream in = sheet) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, rows, new DataFormatter(), false));
+            parser.parse(new InputSource(in));
+        } catch (IOException | SAXException | ParserConfigurationException e) {
+            throw new RuntimeException("Fail to parse sheet '" + sheetName + "': " + e.getMessage());
+        }
+        if (rows.skipped) {
+            log.info("Skipped sheet '{}': its first row names none of the import columns.", sheetName);
+            return;
+        }
+        // One line per sheet; logging every row dominated the parse time of large workbooks
+        log.debug("Parsed {} rows from sheet '{}'.", rows.count, sheetName);
+    }
+
+    private static List<Syllabus> await(Future<List<Syllabus>> sheet) {
         try {
-            if (cell.getCellType() == CellType.NUMERIC) {
-                return cell.getNumericCellValue();
-            } else {
-                String val = dataFormatter.formatCellValue(cell);
-                return val.isEmpty() ? 0.0 : Double.parseDouble(val);
+            return sheet.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Fail to parse Excel file: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Excel parsing was interrupted");
+        }
+    }
+
+    /**
+     * A CSV export (UTF-8, comma, semicolon or tab separated) is read on the calling thread: with no
+     * zip or XML to go through, tokenizing is cheaper than handing rows to other threads. The header
+     * line is mapped like a sheet's first row.
+     */
+    private static void parseCsv(ImportFile file, RowHandler handler) throws IOException {
+        CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder(); // Reports malformed input instead of replacing it
+        try (CsvReader csv = new CsvReader(new InputStreamReader(file.getInputStream(), utf8))) {
+            List<String> header = new ArrayList<>();
+            if (!csv.readRecord(new String[0], header)) {
+                return;
+            }
+            ColumnMapping mapping = ColumnMapping.compile(header);
+            String[] cells = new String[mapping.width()];
+            int record = 1;
+            while (true) {
+                Arrays.fill(cells, null);
+                if (!csv.readRecord(cells, null)) {
+                    break;
+                }
+                record++;
+                if (mapping.isDataRow(cells)) {
+                    handler.row(file.getFileName(), record, mapping, cells);
+                }
+            }
+        } catch (CharacterCodingException e) {
+            throw new RuntimeException("The CSV file must be saved as UTF-8.");
+        }
+    }
+
+    private static boolean isCsv(ImportFile file) {
+        return file.getFileName() != null && file.getFileName().toLowerCase(Locale.ROOT).endsWith(".csv");
+    }
+
+    private static boolean isArchive(ImportFile file) {
+        return file.getFileName() != null && file.getFileName().toLowerCase(Locale.ROOT).endsWith(".zip");
+    }
+
+    // A file on disk is opened as a zip with random access; a stream has to be buffered whole first
+    private static OPCPackage openPackage(ImportFile file) throws IOException, InvalidFormatException {
+        if (file.getPath() != null) {
+            return OPCPackage.open(file.getPath().toFile(), PackageAccess.READ);
+        }
+        try (InputStream in = file.getInputStream()) {
+            return OPCPackage.open(in);
+        }
+    }
+
+    // The .xlsx entries of the archive go to temp files (added to extracted as they are created, so the
+    // caller always deletes them); the total expanded size is capped like a chunked upload
+    private void extractWorkbooks(ImportFile file, List<Path> extracted) throws IOException {
+        long remaining = maxArchiveBytes;
+        try (ZipInputStream zip = new ZipInputStream(file.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                String baseName = name.substring(name.lastIndexOf('/') + 1);
+                if (entry.isDirectory() || name.startsWith("__MACOSX/") || baseName.startsWith("~$")
+                        || !baseName.toLowerCase(Locale.ROOT).endsWith(".xlsx")) {
+                    continue;
+                }
+                if (extracted.size() == MAX_ARCHIVE_WORKBOOKS) {
+                    throw new RuntimeException("The ZIP archive contains more than " + MAX_ARCHIVE_WORKBOOKS + " workbooks.");
+                }
+                Path workbook = Files.createTempFile("sygsy-import-", ".xlsx");
+                extracted.add(workbook);
+                remaining -= copy(zip, workbook, remaining);
+            }
+        }
+        if (extracted.isEmpty()) {
+            throw new RuntimeException("The ZIP archive contains no .xlsx files.");
+        }
+    }
+
+    private static long copy(InputStream in, Path target, long limit) throws IOException {
+        long copied = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                copied += read;
+                if (copied > limit) {
+                    throw new RuntimeException("The ZIP archive expands to more than " + DataSize.ofBytes(limit).toMegabytes() + " MB.");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return copied;
+    }
+
+    /**
+     * Receives the data rows of an upload in file order: source is the sheet (or CSV file) name and
+     * rowNumber the 1-based row as a spreadsheet shows it. cells is reused for the next row.
+     */
+    interface RowHandler {
+        void row(String source, int rowNumber, ColumnMapping mapping, String[] cells);
+    }
+
+    private interface SheetVisitor {
+        // first is set for the first sheet of each workbook
+        void visit(InputStream sheet, String sheetName, boolean first, StylesTable styles, SharedStrings strings);
+    }
+
+    /**
+     * Receives the cells of one sheet from the SAX parser and hands each data row to the handler.
+     * The column mapping is compiled from the sheet's first row; the other rows only fill the cell
+     * buffer and go through it. Only the first sheet of a workbook may fall back to the positional
+     * layout: any other sheet whose first row names no column (instructions, lists for data
+     * validation, pivots) is skipped, since its text would otherwise be read as syllabi. One instance per sheet, used by a single thread, so nothing here
+     * needs to be shared or synchronized.
+     */
+    private static final class SheetRows implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final String sheetName;
+        private final boolean positionalAllowed;
+        private final RowHandler handler;
+        private final List<String> header = new ArrayList<>();
+        private ColumnMapping mapping;
+        private String[] cells;
+        private int count;
+        private boolean skipped;
+
+        SheetRows(String sheetName, boolean positionalAllowed, RowHandler handler) {
+            this.sheetName = sheetName;
+            this.positionalAllowed = positionalAllowed;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            if (cells != null) {
+                Arrays.fill(cells, null);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null || skipped) {
+                return;
+            }
+            int column = new CellReference(cellReference).getCol();
+            if (mapping == null) {
+                while (header.size() <= column) {
+                    header.add(null);
+                }
+                header.set(column, formattedValue);
+            } else if (column < cells.length) {
+                cells[column] = formattedValue;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (skipped) {
+                return;
+            }
+            if (mapping == null) {
+                mapping = ColumnMapping.compile(header);
+                skipped = mapping == ColumnMapping.POSITIONAL && !positionalAllowed;
+                cells = new String[mapping.width()];
+                return;
+            }
+            if (mapping.isDataRow(cells)) {
+                handler.row(sheetName, rowNum + 1, mapping, cells);
+                count++;
             }
-        } catch (Exception e) {
-            return 0.0;
         }
     }
 }
@@ -0,0 +1,169 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Starts and stops an on-demand JDK Flight Recorder recording for production diagnosis. The
+ * recording includes the com.sygsy.* custom events (PDF render, Excel parse, JWT verification,
+ * import stages) next to the JVM events, and is capped in duration so a forgotten one cannot grow
+ * without bound. Only one recording runs at a time and only the admin may control it.
+ */
+@Service
+public class FlightRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingService.class);
+
+    private final UserRepository userRepository;
+    private final long maxDurationMinutes;
+    private final long maxSizeMb;
+
+    // A lock instead of synchronized: the admin lookup and the dump block, which would pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String startedBy;
+
+    public FlightRecordingService(UserRepository userRepository,
+                                  @Value("${sygsy.jfr.max-duration-minutes:30}") long maxDurationMinutes,
+                                  @Value("${sygsy.jfr.max-size-mb:256}") long maxSizeMb) {
+        this.userRepository = userRepository;
+        this.maxDurationMinutes = maxDurationMinutes;
+        this.maxSizeMb = maxSizeMb;
+    }
+
+    // "default" is the continuous low-overhead JDK profile (~1%); "profile" samples more and costs more
+    public Map<String, Object> start(String username, String settings, Long durationMinutes) {
+        requireAdmin(username);
+        lock.lock();
+        try {
+            return doStart(username, settings, durationMinutes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, Object> doStart(String username, String settings, Long durationMinutes) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new RuntimeException("Ya hay una grabación JFR en curso (iniciada por " + startedBy + ").");
+        }
+        closeQuietly();
+
+        try {
+            Configuration configuration = Configuration.getConfiguration(settings == null || settings.isBlank() ? "default" : settings);
+            recording = new Recording(configuration);
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Configuración JFR no válida: " + settings);
+        }
+        long minutes = durationMinutes == null ? maxDurationMinutes : Math.min(durationMinutes, maxDurationMinutes);
+        recording.setName("sygsy-" + Instant.now().getEpochSecond());
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofMinutes(minutes));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.enable("com.sygsy.PdfRender");
+        recording.enable("com.sygsy.ExcelParse");
+        recording.enable("com.sygsy.JwtVerification");
+        recording.enable("com.sygsy.ImportStage");
+        recording.enable("jdk.VirtualThreadPinned"); // Java 21+, ignored on older runtimes
+        recording.start();
+        startedBy = username;
+        log.info("JFR recording {} started by {} ({} settings, max {} min).", recording.getName(), username, configuration.getName(), minutes);
+        return describe();
+    }
+
+    // Stops the recording (if still running) and dumps it; the caller streams and deletes the file
+    public Path stop(String username) {
+        requireAdmin(username);
+        lock.lock();
+        try {
+            return doStop(username);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Path doStop(String username) {
+        if (recording == null) {
+            throw new RuntimeException("No hay ninguna grabación JFR.");
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile(recording.getName(), ".jfr");
+            recording.dump(file);
+            log.info("JFR recording {} stopped by {}, {} bytes.", recording.getName(), username, Files.size(file));
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing JFR recording: " + e.getMessage());
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    public Map<String, Object> status(String username) {
+        requireAdmin(username);
+        lock.lock();
+        try {
+            return describe();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("name", recording.getName());
+            status.put("startedBy", startedBy);
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            closeQuietly();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            startedBy = null;
+        }
+    }
+
+    // The admin is the coordinator without a career (see DataInitializer)
+    private void requireAdmin(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (user.getRole() != User.Role.COORDINATOR || user.getCareerId() != null) {
+            throw new RuntimeException("Solo el administrador puede gestionar grabaciones JFR.");
+        }
+    }
+}
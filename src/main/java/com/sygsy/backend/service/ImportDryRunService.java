@@ -0,0 +1,248 @@
+package com.sygsy.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sygsy.backend.domain.Career;
+import com.sygsy.backend.domain.ImportUpload;
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.dto.ImportDryRunSummaryDTO;
+import com.sygsy.backend.dto.ImportRowReportDTO;
+import com.sygsy.backend.repository.AcademicPeriodRepository;
+import com.sygsy.backend.repository.SyllabusRepository;
+import com.sygsy.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dry run of the bulk imports: every row of the upload gets the checks importSyllabiFromExcel or
+ * upsertSyllabiFromExcel would apply, plus the numeric cells those read as 0, and nothing is written.
+ * Rows are checked in batches with one query for their course codes and one for the professors not
+ * seen yet, and each batch is written out as NDJSON as soon as it is checked, so the report starts
+ * while the rest of the file is still being parsed. The last line is always the summary.
+ */
+@Service
+public class ImportDryRunService {
+
+    private final ExcelService excelService;
+    private final SyllabusRepository syllabusRepository;
+    private final UserRepository userRepository;
+    private final AcademicPeriodRepository academicPeriodRepository;
+    private final CareerService careerService;
+    private final ObjectMapper objectMapper;
+    private final Timer dryRunTimer;
+    private final int batchSize;
+
+    public ImportDryRunService(ExcelService excelService, SyllabusRepository syllabusRepository, UserRepository userRepository,
+                               AcademicPeriodRepository academicPeriodRepository, CareerService careerService, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry, @Value("${sygsy.import.upsert-chunk-size:500}") int batchSize) {
+        this.excelService = excelService;
+        this.syllabusRepository = syllabusRepository;
+        this.userRepository = userRepository;
+        this.academicPeriodRepository = academicPeriodRepository;
+        this.careerService = careerService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.dryRunTimer = Timer.builder("sygsy.import.dry-run")
+                .description("Time to check a bulk upload without importing it")
+                .register(meterRegistry);
+    }
+
+    // Called before the response starts, so these failures still get an error status
+    public User checkAccess(Long academicPeriodId, String username) {
+        User coordinator = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Coordinator not found"));
+        if (coordinator.getRole() != User.Role.COORDINATOR) {
+            throw new RuntimeException("Only coordinators can import syllabi");
+        }
+        if (!academicPeriodRepository.existsById(academicPeriodId)) {
+            throw new RuntimeException("Academic period not found");
+        }
+        return coordinator;
+    }
+
+    /**
+     * Writes the report for the upload as it would be imported in mode. A file that cannot be read
+     * to the end is reported in the summary; a client that goes away ends the run with an
+     * UncheckedIOException.
+     */
+    public void report(ImportFile file, Long academicPeriodId, String username, ImportUpload.Mode mode, OutputStream out) {
+        Timer.Sample sample = Timer.start();
+        User coordinator = checkAccess(academicPeriodId, username);
+        Report report = new Report(mode, coordinator, academicPeriodId, careerService.catalogByNormalizedName(), out);
+        String error = null;
+        try {
+            excelService.readRows(file, report::add);
+        } catch (UncheckedIOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        }
+        // Rows read before a parse error are still reported
+        report.flush();
+        report.finish(error);
+        sample.stop(dryRunTimer);
+    }
+
+    private record PendingRow(String source, int row, String courseCode, String courseName, String professorEmail, List<String> errors) {
+    }
+
+    private final class Report {
+
+        private final ImportUpload.Mode mode;
+        private final User coordinator;
+        private final Long academicPeriodId;
+        private final Map<String, Career> catalog;
+        private final OutputStream out;
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final Set<String> codes = new HashSet<>();
+        // Every email looked up so far; null for the ones with no user
+        private final Map<String, User> professors = new HashMap<>();
+        private int rows;
+        private int newCourses;
+        private int existingCourses;
+        private int invalidRows;
+
+        Report(ImportUpload.Mode mode, User coordinator, Long academicPeriodId, Map<String, Career> catalog, OutputStream out) {
+            this.mode = mode;
+            this.coordinator = coordinator;
+            this.academicPeriodId = academicPeriodId;
+            this.catalog = catalog;
+            this.out = out;
+        }
+
+        // Checks that need only the row itself; the ones that need the database wait for the batch
+        void add(String source, int rowNumber, ColumnMapping mapping, String[] cells) {
+            List<String> errors = new ArrayList<>(0);
+            String careerName = mapping.text(cells, ColumnMapping.Field.CAREER).trim();
+            Career career = catalog.get(Career.normalize(careerName));
+            if (career == null) {
+                errors.add("La carrera '" + careerName + "' no existe en el catálogo.");
+            } else if (coordinator.getCareerId() != null && !coordinator.getCareerId().equals(career.getId())) {
+                errors.add("Usted es coordinador de '" + coordinator.getCareer() + "' y no puede subir sílabos de la carrera '" + careerName + "'.");
+            }
+            for (ColumnMapping.Field field : mapping.invalidIntegers(cells)) {
+                errors.add(field.header() + ": '" + mapping.text(cells, field).trim() + "' no es un número entero.");
+            }
+            String code = SyllabusService.normalizeCourseCode(mapping.text(cells, ColumnMapping.Field.COURSE_CODE));
+            if (code != null && !codes.add(code)) {
+                errors.add("El código " + code + " aparece más de una vez en el archivo.");
+            }
+            batch.add(new PendingRow(source, rowNumber, code, mapping.text(cells, ColumnMapping.Field.COURSE_NAME),
+                    mapping.text(cells, ColumnMapping.Field.PROFESSOR_EMAIL), errors));
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Set<String> batchCodes = new HashSet<>();
+            Set<String> unseenEmails = new HashSet<>();
+            for (PendingRow row : batch) {
+                if (row.courseCode() != null) {
+                    batchCodes.add(row.courseCode());
+                }
+                if (!row.professorEmail().isEmpty() && !professors.containsKey(row.professorEmail())) {
+                    unseenEmails.add(row.professorEmail());
+                }
+            }
+            Map<String, SyllabusRepository.CourseCodeRow> existing = new HashMap<>();
+            if (!batchCodes.isEmpty()) {
+                for (SyllabusRepository.CourseCodeRow row : syllabusRepository.findCourseCodeRows(academicPeriodId, batchCodes)) {
+                    existing.put(row.getCourseCode(), row);
+                }
+            }
+            if (!unseenEmails.isEmpty()) {
+                // Matched ignoring case, like the upsert import
+                Map<String, User> found = new HashMap<>();
+                for (User user : userRepository.findByUsernameIn(unseenEmails)) {
+                    found.put(user.getUsername().toLowerCase(), user);
+                }
+                for (String email : unseenEmails) {
+                    professors.put(email, found.get(email.toLowerCase()));
+                }
+            }
+
+            try {
+                for (PendingRow row : batch) {
+                    write(check(row, existing.get(row.courseCode())));
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            batch.clear();
+        }
+
+        private ImportRowReportDTO check(PendingRow row, SyllabusRepository.CourseCodeRow current) {
+            List<String> errors = row.errors();
+            String email = row.professorEmail();
+            if (mode == ImportUpload.Mode.UPSERT && row.courseCode() == null) {
+                errors.add("El curso " + row.courseName() + " no tiene código. La carga con actualización identifica cada curso por su código.");
+            }
+            if (current != null) {
+                if (mode == ImportUpload.Mode.INSERT) {
+                    errors.add("El periodo ya tiene un sílabo con el código " + current.getCourseCode()
+                            + ". Use la carga con actualización (upsert-bulk) para corregirlo.");
+                } else {
+                    if (coordinator.getCareerId() != null && !coordinator.getCareerId().equals(current.getCareerId())) {
+                        errors.add("Usted es coordinador de '" + coordinator.getCareer() + "' y no puede modificar el sílabo "
+                                + current.getCourseCode() + " de la carrera '" + current.getCareer() + "'.");
+                    }
+                    if (!email.isEmpty() && current.getProfessorEmail() != null && !email.equalsIgnoreCase(current.getProfessorEmail())) {
+                        errors.add("Professor email mismatch for course " + current.getCourseCode() + "! Excel has '" + email
+                                + "' but syllabus is assigned to '" + current.getProfessorEmail() + "'");
+                    }
+                }
+            }
+            if (!email.isEmpty()) {
+                User professor = professors.get(email);
+                if (professor == null) {
+                    errors.add("Professor not found: " + email);
+                } else if (professor.getRole() != User.Role.PROFESSOR) {
+                    errors.add("User " + email + " is not a professor");
+                }
+            }
+
+            rows++;
+            if (current != null) {
+                existingCourses++;
+            } else {
+                newCourses++;
+            }
+            if (!errors.isEmpty()) {
+                invalidRows++;
+            }
+            return new ImportRowReportDTO(row.source(), row.row(), row.courseCode(), row.courseName(),
+                    current != null ? ImportRowReportDTO.Course.EXISTING : ImportRowReportDTO.Course.NEW, errors);
+        }
+
+        void finish(String error) {
+            try {
+                write(new ImportDryRunSummaryDTO(academicPeriodId, rows, newCourses, existingCourses, invalidRows, error));
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // writeValue(out, ...) would close the response stream after the first line
+        private void write(Object line) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sygsy.backend.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A file handed to the importers: a multipart upload, or a file already on disk such as a completed
+ * chunked upload. When the path is known, parsers open it directly (random access) instead of
+ * reading the whole stream into memory.
+ */
+public final class ImportFile {
+
+    private final String fileName;
+    private final long size;
+    private final Path path;
+    private final MultipartFile multipartFile;
+
+    private ImportFile(String fileName, long size, Path path, MultipartFile multipartFile) {
+        this.fileName = fileName;
+        this.size = size;
+        this.path = path;
+        this.multipartFile = multipartFile;
+    }
+
+    public static ImportFile of(MultipartFile file) {
+        return new ImportFile(file.getOriginalFilename(), file.getSize(), null, file);
+    }
+
+    public static ImportFile of(Path path, String fileName) throws IOException {
+        return new ImportFile(fileName, Files.size(path), path, null);
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    // Null for multipart uploads
+    public Path getPath() {
+        return path;
+    }
+
+    public InputStream getInputStream() throws IOException {
+        return path != null ? Files.newInputStream(path) : multipartFile.getInputStream();
+    }
+}
@@ -5,6 +5,10 @@ import com.lowagie.text.pdf.*;
 import com.sygsy.backend.domain.Evaluation;
 import com.sygsy.backend.domain.Syllabus;
 import com.sygsy.backend.domain.SyllabusUnit;
+import com.sygsy.backend.jfr.PdfRenderEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -22,7 +26,38 @@ public class PdfService {
     private static final Font BOLD_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10);
     private static final Font TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8); // Smaller font for tables
 
+    private final Timer renderTimer;
+    private final DistributionSummary sizeSummary;
+
+    public PdfService(MeterRegistry meterRegistry) {
+        this.renderTimer = Timer.builder("sygsy.pdf.render")
+                .description("Time to render a syllabus PDF")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sizeSummary = DistributionSummary.builder("sygsy.pdf.size")
+                .description("Size of rendered syllabus PDFs")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     public byte[] generateSyllabusPdf(Syllabus syllabus) {
+        PdfRenderEvent event = new PdfRenderEvent();
+        event.begin();
+        byte[] pdf = renderTimer.record(() -> render(syllabus));
+        sizeSummary.record(pdf.length);
+        event.end();
+        if (event.shouldCommit()) {
+            event.syllabusId = syllabus.getId() != null ? syllabus.getId() : 0;
+            event.units = syllabus.getUnits() != null ? syllabus.getUnits().size() : 0;
+            event.evaluations = syllabus.getEvaluations() != null ? syllabus.getEvaluations().size() : 0;
+            event.bytes = pdf.length;
+            event.commit();
+        }
+        return pdf;
+    }
+
+    private byte[] render(Syllabus syllabus) {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
             Document document = new Document(PageSize.A4);
             PdfWriter.getInstance(document, out);
@@ -0,0 +1,257 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.event.SyllabusBatchChangedEvent;
+import com.sygsy.backend.event.SyllabusChangedEvent;
+import com.sygsy.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes syllabus workflow changes to connected clients over Server-Sent Events so the UI does not
+ * have to poll GET /api/syllabi. Events are queued into a bounded buffer per client from the
+ * after-commit listener and written by a small shared pool of sender threads, one drain per client
+ * at a time so its events stay in order. A client that falls behind loses its oldest events and
+ * receives a "resync" event telling it to reload once. A client whose socket stops accepting data
+ * is bounded by the connector: server.tomcat.connection-timeout is also Tomcat's write timeout, so
+ * the blocked write fails on its own after send-timeout and frees the sender. The watchdog stops
+ * queuing events for such a client as soon as its send runs past the timeout. The scheduler thread
+ * only queues heartbeats and looks for stalled sends, it never writes.
+ */
+@Service
+public class SyllabusEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(SyllabusEventBroadcaster.class);
+
+    private final UserRepository userRepository;
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sse-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders;
+
+    private final int bufferSize;
+    private final long timeout;
+    private final long sendTimeoutNanos;
+
+    public SyllabusEventBroadcaster(UserRepository userRepository,
+                                    @Value("${sygsy.events.buffer-size:64}") int bufferSize,
+                                    @Value("${sygsy.events.timeout:1800000}") long timeout, // 30 minutes, the client reconnects afterwards
+                                    @Value("${sygsy.events.heartbeat-seconds:25}") long heartbeatSeconds,
+                                    @Value("${sygsy.events.sender-threads:4}") int senderThreads,
+                                    @Value("${sygsy.events.send-timeout:10000}") long sendTimeout) {
+        this.userRepository = userRepository;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+        AtomicInteger senderCount = new AtomicInteger();
+        // The queue holds at most one drain per subscriber
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "sse-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long checkMillis = Math.max(100, sendTimeout / 4);
+        scheduler.scheduleWithFixedDelay(this::dropStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(emitter, user.getId(), user.getRole(), user.getCareerId(), bufferSize);
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        subscriber.offer(SseEmitter.event().name("connected").data("ok"));
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSyllabusChanged(SyllabusChangedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.accepts(event)) continue;
+            subscriber.offer(SseEmitter.event()
+                    .id(String.valueOf(event.getSyllabusId()))
+                    .name(eventName(subscriber, event))
+                    .data(event, MediaType.APPLICATION_JSON));
+            schedule(subscriber);
+        }
+    }
+
+    // One "batch" event per subscriber carrying only the changes that subscriber may see
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSyllabusBatchChanged(SyllabusBatchChangedEvent batch) {
+        for (Subscriber subscriber : subscribers) {
+            List<SyllabusChangedEvent> visible = batch.getChanges().stream().filter(subscriber::accepts).toList();
+            if (visible.isEmpty()) continue;
+            subscriber.offer(SseEmitter.event().name("batch").data(visible, MediaType.APPLICATION_JSON));
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false); // Shutting down
+            }
+        }
+    }
+
+    // Runs on a sender thread; scheduled stays set until the buffer is empty, so no second drain of
+    // the same subscriber can start meanwhile
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.overflowed.getAndSet(false)) {
+                    send(subscriber, SseEmitter.event().name("resync").data("overflow"));
+                }
+                SseEmitter.SseEventBuilder next;
+                while ((next = subscriber.buffer.poll()) != null) {
+                    send(subscriber, next);
+                }
+                subscriber.scheduled.set(false);
+            } while (subscriber.hasPending() && subscriber.scheduled.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or stalled; the emitter callbacks may not fire for a broken pipe
+            log.debug("Dropping SSE subscriber {}: {}", subscriber.userId, e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        if (subscriber.stalled) {
+            throw new IOException("send timed out");
+        }
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+        if (subscriber.stalled) {
+            throw new IOException("send timed out");
+        }
+    }
+
+    // Only unsubscribes: the blocked write is ended by the connector's write timeout, and the sender
+    // completes the emitter when it returns (completing it from here would wait for the lock the
+    // blocked send holds). Interrupting the sender is not an option, Tomcat's socket write ignores it.
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                log.debug("SSE subscriber {} stopped reading, dropping it", subscriber.userId);
+                subscriber.stalled = true;
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("keep-alive"));
+            schedule(subscriber);
+        }
+    }
+
+    // Professors care about courses assigned to them; coordinators about any change in their career
+    private String eventName(Subscriber subscriber, SyllabusChangedEvent event) {
+        if (subscriber.role == User.Role.PROFESSOR && event.getType() == SyllabusChangedEvent.Type.CREATED) {
+            return "assigned";
+        }
+        return event.getType().name().toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final User.Role role;
+        private final Long careerId;
+        private final Queue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean overflowed = new AtomicBoolean(false);
+        // Written by the sender draining this subscriber, read by dropStalled
+        private volatile long sendStartedAt;
+        private volatile boolean stalled;
+
+        private Subscriber(SseEmitter emitter, Long userId, User.Role role, Long careerId, int capacity) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.role = role;
+            this.careerId = careerId;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private boolean accepts(SyllabusChangedEvent event) {
+            if (role == User.Role.PROFESSOR) {
+                return userId != null && userId.equals(event.getProfessorId());
+            }
+            if (role == User.Role.COORDINATOR) {
+                // Coordinators without career (admin) see everything
+                return careerId == null
+                        || careerId.equals(event.getCareerId())
+                        || careerId.equals(event.getPreviousCareerId());
+            }
+            return false;
+        }
+
+        private boolean hasPending() {
+            return overflowed.get() || !buffer.isEmpty();
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            while (!buffer.offer(event)) {
+                buffer.poll();
+                overflowed.set(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.ImportUpload;
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.dto.ImportResultDTO;
+import com.sygsy.backend.repository.ImportUploadRepository;
+import com.sygsy.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Entry point of the bulk imports. Uploads are identified by uploader, period, mode and the SHA-256
+ * of their bytes: a file that was already imported within the replay window gets the recorded result
+ * back without being parsed, and a duplicate that arrives while the first one is still running waits
+ * for it instead of starting a second import: in this instance by joining its future, across
+ * instances on an advisory lock of the key, held by the import's transaction, in which the record
+ * is also written.
+ */
+@Service
+public class SyllabusImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyllabusImportService.class);
+
+    private final SyllabusService syllabusService;
+    private final ImportUploadRepository uploadRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate importTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Duration replayWindow;
+
+    // Imports running in this instance; duplicates join the future of the first one
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> running = new ConcurrentHashMap<>();
+
+    public SyllabusImportService(SyllabusService syllabusService, ImportUploadRepository uploadRepository, UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                 @Value("${sygsy.import.replay-window:24h}") Duration replayWindow) {
+        this.syllabusService = syllabusService;
+        this.uploadRepository = uploadRepository;
+        this.userRepository = userRepository;
+        this.importTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.replayWindow = replayWindow;
+    }
+
+    public List<Syllabus> importSyllabi(ImportFile file, Long academicPeriodId, String coordinatorUsername) {
+        return deduplicate(ImportUpload.Mode.INSERT, file, academicPeriodId, coordinatorUsername,
+                upload -> {
+                    List<Syllabus> saved = syllabusService.importSyllabiFromExcel(file, academicPeriodId, coordinatorUsername);
+                    List<Long> ids = new ArrayList<>(saved.size());
+                    for (Syllabus syllabus : saved) {
+                        ids.add(syllabus.getId());
+                    }
+                    upload.setRowCount(saved.size());
+                    upload.setInserted(saved.size());
+                    upload.setSyllabusIds(ids);
+                    return saved;
+                },
+                upload -> {
+                    List<Syllabus> syllabi = syllabusService.getSyllabiByIds(upload.getSyllabusIds());
+                    // Some of them were deleted since (e.g. a bad import undone), so the file is imported again
+                    return syllabi.size() == upload.getSyllabusIds().size() ? syllabi : null;
+                });
+    }
+
+    public ImportResultDTO upsertSyllabi(ImportFile file, Long academicPeriodId, String coordinatorUsername) {
+        return deduplicate(ImportUpload.Mode.UPSERT, file, academicPeriodId, coordinatorUsername,
+                upload -> {
+                    ImportResultDTO result = syllabusService.upsertSyllabiFromExcel(file, academicPeriodId, coordinatorUsername);
+                    upload.setRowCount(result.getRows());
+                    upload.setInserted(result.getInserted());
+                    upload.setUpdated(result.getUpdated());
+                    upload.setUnchanged(result.getUnchanged());
+                    return result;
+                },
+                upload -> new ImportResultDTO(upload.getAcademicPeriodId(), upload.getRowCount(), upload.getInserted(),
+                        upload.getUpdated(), upload.getUnchanged()));
+    }
+
+    /**
+     * replay returns null when the recorded result no longer stands; the record is then replaced by
+     * a new import, as for one older than the replay window.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T deduplicate(ImportUpload.Mode mode, ImportFile file, Long academicPeriodId, String username,
+                              Function<ImportUpload, T> runImport, Function<ImportUpload, T> replay) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Coordinator not found"));
+        String hash = sha256(file);
+        Key key = new Key(user.getId(), academicPeriodId, mode, hash);
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> first = running.putIfAbsent(key, mine);
+        if (first != null) {
+            uploads("joined").increment();
+            log.info("Upload {} of {} for period {} is already being imported, waiting for it.", abbreviate(hash), username, academicPeriodId);
+            return (T) await(first);
+        }
+
+        try {
+            boolean[] replayed = {false};
+            T result = importTransaction.execute(status -> {
+                // Another instance importing the same upload holds this lock until it commits, so its record is
+                // visible to the lookup below and gets replayed instead of failing on uk_import_uploads_key
+                uploadRepository.lockKey(key.lockName());
+                Optional<ImportUpload> previous = uploadRepository.findByUserIdAndAcademicPeriodIdAndModeAndContentHash(
+                        user.getId(), academicPeriodId, mode, hash);
+                if (previous.isPresent() && !previous.get().getCreatedAt().isBefore(LocalDateTime.now().minus(replayWindow))) {
+                    T recorded = replay.apply(previous.get());
+                    if (recorded != null) {
+                        log.info("Upload {} of {} for period {} was imported at {}, returning that result.",
+                                abbreviate(hash), username, academicPeriodId, previous.get().getCreatedAt());
+                        replayed[0] = true;
+                        return recorded;
+                    }
+                    log.info("Upload {} of {} for period {} was imported at {} but its syllabi changed since, importing it again.",
+                            abbreviate(hash), username, academicPeriodId, previous.get().getCreatedAt());
+                }
+                if (previous.isPresent()) {
+                    uploadRepository.deleteByKey(user.getId(), academicPeriodId, mode, hash);
+                }
+                ImportUpload upload = new ImportUpload(user.getId(), academicPeriodId, mode, hash, file.getFileName(), file.getSize());
+                T imported = runImport.apply(upload);
+                uploadRepository.save(upload);
+                return imported;
+            });
+            uploads(replayed[0] ? "replayed" : "imported").increment();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too (an OutOfMemoryError on a huge workbook), or joined requests would wait forever
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            running.remove(key, mine);
+        }
+    }
+
+    // A joined upload fails with the same error as the one it waited for
+    private static Object await(CompletableFuture<Object> first) {
+        try {
+            return first.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Streams the upload through the digest in fixed-size blocks; the file is never held in memory
+    static String sha256(ImportFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to read uploaded file: " + e.getMessage());
+        }
+    }
+
+    private static String abbreviate(String hash) {
+        return hash.substring(0, 12);
+    }
+
+    private Counter uploads(String outcome) {
+        return Counter.builder("sygsy.import.uploads")
+                .description("Bulk uploads by outcome: imported, replayed (same file seen before) or joined (same file in progress)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Key(Long userId, Long academicPeriodId, ImportUpload.Mode mode, String contentHash) {
+
+        String lockName() {
+            return userId + ":" + academicPeriodId + ":" + mode + ":" + contentHash;
+        }
+    }
+}
@@ -1,35 +1,75 @@
 package com.sygsy.backend.service;
 
 import com.sygsy.backend.domain.AcademicPeriod;
-import com.sygsy.backend.domain.Evaluation;
+import com.sygsy.backend.domain.Career;
 import com.sygsy.backend.domain.Syllabus;
-import com.sygsy.backend.domain.SyllabusUnit;
 import com.sygsy.backend.domain.User;
+import com.sygsy.backend.dto.BulkStatusResultDTO;
+import com.sygsy.backend.dto.BulkStatusUpdateDTO;
+import com.sygsy.backend.dto.ImportResultDTO;
+import com.sygsy.backend.event.SyllabusBatchChangedEvent;
+import com.sygsy.backend.event.SyllabusChangedEvent;
+import com.sygsy.backend.jfr.ImportStageEvent;
 import com.sygsy.backend.repository.AcademicPeriodRepository;
 import com.sygsy.backend.repository.SyllabusRepository;
+import com.sygsy.backend.repository.SyllabusUpsertRepository;
 import com.sygsy.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class SyllabusService {
 
+    // Ids per IN list; PostgreSQL allows at most 65535 bind parameters in one statement
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final SyllabusRepository syllabusRepository;
+    private final SyllabusUpsertRepository upsertRepository;
     private final UserRepository userRepository;
     private final AcademicPeriodRepository academicPeriodRepository;
     private final ExcelService excelService;
-
-    public SyllabusService(SyllabusRepository syllabusRepository, UserRepository userRepository, AcademicPeriodRepository academicPeriodRepository, ExcelService excelService) {
+    private final CareerService careerService;
+    private final SyllabusTemplateService templateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int upsertChunkSize;
+
+    public SyllabusService(SyllabusRepository syllabusRepository, SyllabusUpsertRepository upsertRepository, UserRepository userRepository, AcademicPeriodRepository academicPeriodRepository, ExcelService excelService, CareerService careerService, SyllabusTemplateService templateService, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                           @Value("${sygsy.import.upsert-chunk-size:500}") int upsertChunkSize) {
         this.syllabusRepository = syllabusRepository;
+        this.upsertRepository = upsertRepository;
         this.userRepository = userRepository;
         this.academicPeriodRepository = academicPeriodRepository;
         this.excelService = excelService;
+        this.careerService = careerService;
+        this.templateService = templateService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.upsertChunkSize = upsertChunkSize;
     }
 
     @Transactional
@@ -67,22 +107,32 @@ public class SyllabusService {
         }
 
         // Determine Career
+        Long targetCareerId;
         String targetCareer;
-        if (coordinator.getCareer() != null && !coordinator.getCareer().isEmpty()) {
+        if (coordinator.getCareerId() != null) {
+            targetCareerId = coordinator.getCareerId();
             targetCareer = coordinator.getCareer();
         } else {
             // Admin must provide career
-            if (dto.getCareer() == null || dto.getCareer().isEmpty()) {
+            Career career = careerService.resolve(dto.getCareer());
+            if (career == null) {
                 throw new RuntimeException("El administrador debe especificar una carrera para el sílabo.");
             }
-            targetCareer = dto.getCareer();
+            targetCareerId = career.getId();
+            targetCareer = career.getName();
+        }
+
+        String courseCode = normalizeCourseCode(dto.getCourseCode());
+        if (courseCode != null && syllabusRepository.existsByAcademicPeriodIdAndCourseCode(academicPeriod.getId(), courseCode)) {
+            throw new RuntimeException("Ya existe un sílabo con el código " + courseCode + " en el periodo " + academicPeriod.getName() + ".");
         }
 
         Syllabus syllabus = Syllabus.builder()
                 .academicPeriod(academicPeriod)
                 .courseName(dto.getCourseName())
                 .career(targetCareer)
-                .courseCode(dto.getCourseCode())
+                .careerId(targetCareerId)
+                .courseCode(courseCode)
                 .professorEmail(dto.getProfessorEmail())
                 .professor(professor)
                 .coordinator(coordinator)
@@ -90,29 +140,14 @@ public class SyllabusService {
                 .createdBy(coordinator.getId())
                 .build();
 
-        // Initialize 4 Units
-        List<SyllabusUnit> units = new ArrayList<>();
-        for (int i = 1; i <= 4; i++) {
-            units.add(SyllabusUnit.builder()
-                    .unitNumber(i)
-                    .title("UNIDAD " + toRoman(i))
-                    .syllabus(syllabus)
-                    .createdBy(coordinator.getId())
-                    .build());
-        }
-        syllabus.setUnits(units);
-
-        // Initialize Evaluations
-        List<Evaluation> evaluations = new ArrayList<>();
-        evaluations.add(createEvaluation("EVIDENCIA 1", 0.10, syllabus, coordinator.getId()));
-        evaluations.add(createEvaluation("EVIDENCIA 2", 0.10, syllabus, coordinator.getId()));
-        evaluations.add(createEvaluation("EXAMEN PARCIAL", 0.30, syllabus, coordinator.getId()));
-        evaluations.add(createEvaluation("EVIDENCIA 3", 0.10, syllabus, coordinator.getId()));
-        evaluations.add(createEvaluation("EVIDENCIA 4", 0.10, syllabus, coordinator.getId()));
-        evaluations.add(createEvaluation("EXAMEN FINAL", 0.30, syllabus, coordinator.getId()));
-        syllabus.setEvaluations(evaluations);
-
-        return syllabusRepository.save(syllabus);
+        // Units and evaluations from the career/period template
+        SyllabusTemplateService.Template template = templateService.resolve(targetCareerId, academicPeriod.getId());
+        syllabus.setUnits(template.newUnits(syllabus, coordinator.getId()));
+        syllabus.setEvaluations(template.newEvaluations(syllabus, coordinator.getId()));
+
+        Syllabus saved = syllabusRepository.save(syllabus);
+        eventPublisher.publishEvent(SyllabusChangedEvent.created(saved));
+        return saved;
     }
 
     @Transactional
@@ -128,13 +163,11 @@ public class SyllabusService {
         Syllabus parsed = parsedList.get(0);
 
         // VALIDATION: STRICT CAREER SCOPE (Individual Upload)
-        if (coordinator.getRole() == User.Role.COORDINATOR && coordinator.getCareer() != null && !coordinator.getCareer().trim().isEmpty()) {
-            String requiredCareer = coordinator.getCareer().trim();
-            String excelCareer = parsed.getCareer() != null ? parsed.getCareer().trim() : "";
-            
-            if (!requiredCareer.equalsIgnoreCase(excelCareer)) {
-                throw new RuntimeException("Usted es coordinador de '" + requiredCareer + 
-                    "' y no puede subir sílabos de la carrera '" + excelCareer + "'.");
+        Career career = careerService.resolve(parsed.getCareer());
+        if (coordinator.getRole() == User.Role.COORDINATOR && coordinator.getCareerId() != null) {
+            if (career == null || !coordinator.getCareerId().equals(career.getId())) {
+                throw new RuntimeException("Usted es coordinador de '" + coordinator.getCareer() + 
+                    "' y no puede subir sílabos de la carrera '" + (career != null ? career.getName() : "") + "'.");
             }
         }
 
@@ -149,8 +182,11 @@ public class SyllabusService {
         }
 
         // Merge Excel data into existing syllabus (General Data)
+        String previousCareer = existing.getCareer();
+        Long previousCareerId = existing.getCareerId();
         existing.setFaculty(parsed.getFaculty());
-        existing.setCareer(parsed.getCareer());
+        existing.setCareer(career != null ? career.getName() : null);
+        existing.setCareerId(career != null ? career.getId() : null);
         
         existing.setSemester(parsed.getSemester());
         existing.setCredits(parsed.getCredits());
@@ -159,17 +195,33 @@ public class SyllabusService {
         existing.setPracticeHours(parsed.getPracticeHours());
         existing.setTrainingArea(parsed.getTrainingArea());
         
-        if (parsed.getCourseCode() != null && !parsed.getCourseCode().isEmpty()) existing.setCourseCode(parsed.getCourseCode());
+        String courseCode = normalizeCourseCode(parsed.getCourseCode());
+        if (courseCode != null && !courseCode.equals(existing.getCourseCode())) {
+            if (syllabusRepository.existsByAcademicPeriodIdAndCourseCodeAndIdNot(existing.getAcademicPeriod().getId(), courseCode, existing.getId())) {
+                throw new RuntimeException("Ya existe otro sílabo con el código " + courseCode + " en este periodo.");
+            }
+            existing.setCourseCode(courseCode);
+        }
         if (parsed.getCourseName() != null && !parsed.getCourseName().isEmpty()) existing.setCourseName(parsed.getCourseName());
         
         existing.setCourseType(parsed.getCourseType());
         existing.setPrerequisites(parsed.getPrerequisites());
         
-        return syllabusRepository.save(existing);
+        Syllabus saved = syllabusRepository.save(existing);
+        if (!Objects.equals(previousCareerId, saved.getCareerId())) {
+            eventPublisher.publishEvent(SyllabusChangedEvent.careerChanged(saved, previousCareer, previousCareerId));
+        }
+        return saved;
     }
 
+    /**
+     * Inserts every row of the sheet as a new syllabus with the template's units and evaluations.
+     * Like upsertSyllabiFromExcel, lookups are one query per kind and each chunk of rows is a single
+     * INSERT, so the statements do not grow with the sheet; the created syllabi are then read back
+     * with the fetch plan of the lists.
+     */
     @Transactional
-    public List<Syllabus> importSyllabiFromExcel(MultipartFile file, Long academicPeriodId, String coordinatorUsername) {
+    public List<Syllabus> importSyllabiFromExcel(ImportFile file, Long academicPeriodId, String coordinatorUsername) {
         User coordinator = userRepository.findByUsername(coordinatorUsername)
                 .orElseThrow(() -> new RuntimeException("Coordinator not found"));
 
@@ -177,142 +229,312 @@ public class SyllabusService {
             throw new RuntimeException("Only coordinators can import syllabi");
         }
 
-        AcademicPeriod academicPeriod = academicPeriodRepository.findById(academicPeriodId)
+        academicPeriodRepository.findById(academicPeriodId)
                 .orElseThrow(() -> new RuntimeException("Academic period not found"));
 
-        List<Syllabus> parsedList = excelService.parseAllSyllabi(file);
+        ImportStageEvent parseEvent = beginStage();
+        List<Syllabus> parsedList = importStage("parse").record(() -> excelService.parseAllSyllabi(file));
+        commitStage(parseEvent, "parse", academicPeriodId, coordinatorUsername, parsedList.size());
         
-        // VALIDATION: STRICT CAREER SCOPE
-        // If coordinator has a specific career assigned, they can ONLY import syllabi for that career.
-        if (coordinator.getCareer() != null && !coordinator.getCareer().trim().isEmpty()) {
-            String requiredCareer = coordinator.getCareer().trim();
+        ImportStageEvent validateEvent = beginStage();
+        List<Career> rowCareers = new ArrayList<>(parsedList.size());
+        Map<String, User> professors = new HashMap<>();
+        importStage("validate").record(() -> {
+            rowCareers.addAll(resolveRowCareers(parsedList, coordinator));
+            // Course codes are unique per period; corrected re-uploads go through upsertSyllabiFromExcel
+            Map<String, SyllabusRepository.CourseCodeRow> existing = findExistingCourses(academicPeriodId, parsedList);
+            if (!existing.isEmpty()) {
+                throw new RuntimeException("El periodo ya tiene sílabos con los códigos " + String.join(", ", existing.keySet().stream().limit(10).toList())
+                        + ". Use la carga con actualización (upsert-bulk) para corregirlos.");
+            }
+            professors.putAll(findProfessors(parsedList));
+        });
+        commitStage(validateEvent, "validate", academicPeriodId, coordinatorUsername, parsedList.size());
+
+        ImportStageEvent persistEvent = beginStage();
+        Timer.Sample persist = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<SyllabusChangedEvent> changes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(parsedList.size());
+
+        for (int from = 0; from < parsedList.size(); from += upsertChunkSize) {
+            int to = Math.min(from + upsertChunkSize, parsedList.size());
+            List<SyllabusUpsertRepository.UpsertRow> chunk = new ArrayList<>(to - from);
+            for (int row = from; row < to; row++) {
+                chunk.add(upsertRow(parsedList.get(row), rowCareers.get(row), professors));
+            }
+
+            Map<Long, List<Long>> newIdsByCareer = new HashMap<>();
+            for (SyllabusUpsertRepository.UpsertResult result : upsertRepository.insert(academicPeriodId, coordinator.getId(), now, chunk)) {
+                ids.add(result.id());
+                newIdsByCareer.computeIfAbsent(result.careerId(), k -> new ArrayList<>()).add(result.id());
+                changes.add(new SyllabusChangedEvent(SyllabusChangedEvent.Type.CREATED, result.id(), academicPeriodId, result.courseName(),
+                        result.professorId(), null, result.career(), null, result.careerId(), null, result.workflowStatus()));
+            }
+            newIdsByCareer.forEach((careerId, careerIds) -> copyTemplate(templateService.resolve(careerId, academicPeriodId), careerIds, coordinator.getId(), now));
+        }
+        // Ids are drawn in row order, so sorting them restores the order of the sheet
+        ids.sort(null);
+        List<Syllabus> savedSyllabi = getSyllabiByIds(ids);
+
+        persist.stop(importStage("persist"));
+        commitStage(persistEvent, "persist", academicPeriodId, coordinatorUsername, savedSyllabi.size());
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new SyllabusBatchChangedEvent(changes));
+        }
+        return savedSyllabi;
+    }
+
+    /**
+     * Re-uploadable variant of importSyllabiFromExcel. Rows are matched on (period, course code), so
+     * a row without a code is rejected; new courses are inserted with the template's units and evaluations, existing ones get their
+     * general data merged with the rules of updateSyllabusFromExcel, and identical ones are left alone.
+     * Lookups are one query per kind and every chunk of rows is a single INSERT ... ON CONFLICT.
+     */
+    @Transactional
+    public ImportResultDTO upsertSyllabiFromExcel(ImportFile file, Long academicPeriodId, String coordinatorUsername) {
+        User coordinator = userRepository.findByUsername(coordinatorUsername)
+                .orElseThrow(() -> new RuntimeException("Coordinator not found"));
+
+        if (coordinator.getRole() != User.Role.COORDINATOR) {
+            throw new RuntimeException("Only coordinators can import syllabi");
+        }
+
+        AcademicPeriod academicPeriod = academicPeriodRepository.findById(academicPeriodId)
+                .orElseThrow(() -> new RuntimeException("Academic period not found"));
+
+        ImportStageEvent parseEvent = beginStage();
+        List<Syllabus> parsedList = importStage("parse").record(() -> excelService.parseAllSyllabi(file));
+        commitStage(parseEvent, "parse", academicPeriodId, coordinatorUsername, parsedList.size());
+
+        ImportStageEvent validateEvent = beginStage();
+        List<Career> rowCareers = new ArrayList<>(parsedList.size());
+        Map<String, SyllabusRepository.CourseCodeRow> existing = new HashMap<>();
+        Map<String, User> professors = new HashMap<>();
+        importStage("validate").record(() -> {
+            rowCareers.addAll(resolveRowCareers(parsedList, coordinator));
+            existing.putAll(findExistingCourses(academicPeriodId, parsedList));
+            professors.putAll(findProfessors(parsedList));
             for (Syllabus parsed : parsedList) {
-                String excelCareer = parsed.getCareer() != null ? parsed.getCareer().trim() : "";
-                if (!requiredCareer.equalsIgnoreCase(excelCareer)) {
-                    throw new RuntimeException("Usted es coordinador de '" + requiredCareer + 
-                        "' y no puede subir sílabos de la carrera '" + excelCareer + "'.");
+                String courseCode = normalizeCourseCode(parsed.getCourseCode());
+                // A NULL code never conflicts, so the row would be inserted again on every upload
+                if (courseCode == null) {
+                    throw new RuntimeException("El curso " + parsed.getCourseName() + " no tiene código. La carga con actualización "
+                        + "identifica cada curso por su código.");
+                }
+                SyllabusRepository.CourseCodeRow current = existing.get(courseCode);
+                if (current == null) {
+                    continue;
+                }
+                if (coordinator.getCareerId() != null && !coordinator.getCareerId().equals(current.getCareerId())) {
+                    throw new RuntimeException("Usted es coordinador de '" + coordinator.getCareer() +
+                        "' y no puede modificar el sílabo " + current.getCourseCode() + " de la carrera '" + current.getCareer() + "'.");
+                }
+                String email = parsed.getProfessorEmail();
+                if (email != null && !email.isEmpty() && current.getProfessorEmail() != null && !email.equalsIgnoreCase(current.getProfessorEmail())) {
+                    throw new RuntimeException("Professor email mismatch for course " + current.getCourseCode() + "! Excel has '" + email +
+                        "' but syllabus is assigned to '" + current.getProfessorEmail() + "'");
+                }
+            }
+        });
+        commitStage(validateEvent, "validate", academicPeriodId, coordinatorUsername, parsedList.size());
+
+        ImportStageEvent persistEvent = beginStage();
+        Timer.Sample persist = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<SyllabusChangedEvent> changes = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+
+        for (int from = 0; from < parsedList.size(); from += upsertChunkSize) {
+            int to = Math.min(from + upsertChunkSize, parsedList.size());
+            List<SyllabusUpsertRepository.UpsertRow> chunk = new ArrayList<>(to - from);
+            for (int row = from; row < to; row++) {
+                chunk.add(upsertRow(parsedList.get(row), rowCareers.get(row), professors));
+            }
+
+            // New syllabi of the chunk, grouped by career to copy each template with one statement
+            Map<Long, List<Long>> newIdsByCareer = new HashMap<>();
+            for (SyllabusUpsertRepository.UpsertResult result : upsertRepository.upsert(academicPeriodId, coordinator.getId(), now, chunk)) {
+                if (result.inserted()) {
+                    inserted++;
+                    newIdsByCareer.computeIfAbsent(result.careerId(), k -> new ArrayList<>()).add(result.id());
+                    changes.add(new SyllabusChangedEvent(SyllabusChangedEvent.Type.CREATED, result.id(), academicPeriodId, result.courseName(),
+                            result.professorId(), null, result.career(), null, result.careerId(), null, result.workflowStatus()));
+                } else {
+                    updated++;
+                    SyllabusRepository.CourseCodeRow previous = existing.get(result.courseCode());
+                    if (previous != null && !Objects.equals(previous.getCareerId(), result.careerId())) {
+                        changes.add(new SyllabusChangedEvent(SyllabusChangedEvent.Type.UPDATED, result.id(), academicPeriodId, result.courseName(),
+                                result.professorId(), previous.getCareer(), result.career(), previous.getCareerId(), result.careerId(),
+                                result.workflowStatus(), result.workflowStatus()));
+                    }
                 }
             }
+            newIdsByCareer.forEach((careerId, ids) -> copyTemplate(templateService.resolve(careerId, academicPeriodId), ids, coordinator.getId(), now));
         }
 
-        List<Syllabus> savedSyllabi = new ArrayList<>();
+        persist.stop(importStage("persist"));
+        commitStage(persistEvent, "persist", academicPeriodId, coordinatorUsername, inserted + updated);
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new SyllabusBatchChangedEvent(changes));
+        }
+        return new ImportResultDTO(academicPeriod.getId(), parsedList.size(), inserted, updated, parsedList.size() - inserted - updated);
+    }
+
+    // A parsed row with its catalog career and professor (from findProfessors) resolved
+    private static SyllabusUpsertRepository.UpsertRow upsertRow(Syllabus parsed, Career career, Map<String, User> professors) {
+        String email = parsed.getProfessorEmail() != null && !parsed.getProfessorEmail().isEmpty() ? parsed.getProfessorEmail() : null;
+        User professor = email != null ? professors.get(email.toLowerCase()) : null;
+        return new SyllabusUpsertRepository.UpsertRow(parsed.getFaculty(), career.getName(), career.getId(), parsed.getSemester(),
+                parsed.getCredits(), parsed.getTotalHours(), parsed.getTheoryHours(), parsed.getPracticeHours(), parsed.getTrainingArea(),
+                normalizeCourseCode(parsed.getCourseCode()), parsed.getCourseName(), parsed.getCourseType(), parsed.getPrerequisites(),
+                professor != null ? professor.getId() : null, email);
+    }
+
+    private void copyTemplate(SyllabusTemplateService.Template template, List<Long> syllabusIds, Long createdBy, LocalDateTime now) {
+        Integer[] unitNumbers = new Integer[template.units().size()];
+        String[] titles = new String[template.units().size()];
+        for (int i = 0; i < unitNumbers.length; i++) {
+            unitNumbers[i] = template.units().get(i).number();
+            titles[i] = template.units().get(i).title();
+        }
+        String[] names = new String[template.evaluations().size()];
+        Double[] weights = new Double[template.evaluations().size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = template.evaluations().get(i).name();
+            weights[i] = template.evaluations().get(i).weight();
+        }
+        upsertRepository.insertUnits(syllabusIds, unitNumbers, titles, createdBy, now);
+        upsertRepository.insertEvaluations(syllabusIds, names, weights, createdBy, now);
+    }
 
+    // VALIDATION: STRICT CAREER SCOPE
+    // Every row must name a catalog career; a coordinator with a career can ONLY import that one.
+    private List<Career> resolveRowCareers(List<Syllabus> parsedList, User coordinator) {
+        Map<String, Career> catalog = careerService.catalogByNormalizedName();
+        List<Career> rowCareers = new ArrayList<>(parsedList.size());
         for (Syllabus parsed : parsedList) {
-            try {
-                // Validate Professor
-                User professor = null;
-                if (parsed.getProfessorEmail() != null && !parsed.getProfessorEmail().isEmpty()) {
-                    professor = userRepository.findByUsername(parsed.getProfessorEmail())
-                            .orElseThrow(() -> new RuntimeException("Professor not found: " + parsed.getProfessorEmail()));
-                    
-                    if (professor.getRole() != User.Role.PROFESSOR) {
-                        throw new RuntimeException("User " + parsed.getProfessorEmail() + " is not a professor");
-                    }
-                }
+            String excelCareer = parsed.getCareer() != null ? parsed.getCareer().trim() : "";
+            Career career = catalog.get(Career.normalize(excelCareer));
+            if (career == null) {
+                throw new RuntimeException("La carrera '" + excelCareer + "' del curso " + parsed.getCourseName() + " no existe en el catálogo.");
+            }
+            if (coordinator.getCareerId() != null && !coordinator.getCareerId().equals(career.getId())) {
+                throw new RuntimeException("Usted es coordinador de '" + coordinator.getCareer() + 
+                    "' y no puede subir sílabos de la carrera '" + excelCareer + "'.");
+            }
+            rowCareers.add(career);
+        }
+        return rowCareers;
+    }
 
-                // Create Syllabus
-                Syllabus syllabus = Syllabus.builder()
-                        .academicPeriod(academicPeriod)
-                        .faculty(parsed.getFaculty())
-                        .career(parsed.getCareer())
-                        .semester(parsed.getSemester())
-                        .credits(parsed.getCredits())
-                        .totalHours(parsed.getTotalHours())
-                        .theoryHours(parsed.getTheoryHours())
-                        .practiceHours(parsed.getPracticeHours())
-                        .trainingArea(parsed.getTrainingArea())
-                        .courseCode(parsed.getCourseCode())
-                        .courseName(parsed.getCourseName())
-                        .courseType(parsed.getCourseType())
-                        .prerequisites(parsed.getPrerequisites())
-                        .professorEmail(parsed.getProfessorEmail())
-                        .professor(professor)
-                        .coordinator(coordinator)
-                        .workflowStatus(Syllabus.SyllabusStatus.CREATED)
-                        .createdBy(coordinator.getId())
-                        .build();
-
-                // Initialize Units (Default 4)
-                List<SyllabusUnit> units = new ArrayList<>();
-                for (int i = 1; i <= 4; i++) {
-                    units.add(SyllabusUnit.builder()
-                            .unitNumber(i)
-                            .title("UNIDAD " + toRoman(i))
-                            .syllabus(syllabus)
-                            .createdBy(coordinator.getId())
-                            .build());
-                }
-                syllabus.setUnits(units);
-
-                // Initialize Evaluations (Default Template)
-                List<Evaluation> evaluations = new ArrayList<>();
-                evaluations.add(createEvaluation("EVIDENCIA 1", 0.10, syllabus, coordinator.getId()));
-                evaluations.add(createEvaluation("EVIDENCIA 2", 0.10, syllabus, coordinator.getId()));
-                evaluations.add(createEvaluation("EXAMEN PARCIAL", 0.30, syllabus, coordinator.getId()));
-                evaluations.add(createEvaluation("EVIDENCIA 3", 0.10, syllabus, coordinator.getId()));
-                evaluations.add(createEvaluation("EVIDENCIA 4", 0.10, syllabus, coordinator.getId()));
-                evaluations.add(createEvaluation("EXAMEN FINAL", 0.30, syllabus, coordinator.getId()));
-                syllabus.setEvaluations(evaluations);
-
-                savedSyllabi.add(syllabusRepository.save(syllabus));
-
-            } catch (Exception e) {
-                // Log and continue? Or fail all? 
-                // For now, let's fail all as it's safer for "Pre-load" than partial success
-                throw new RuntimeException("Error importing syllabus for course " + parsed.getCourseName() + ": " + e.getMessage());
+    // Syllabi of the period that already use a code of the sheet, keyed by code. A code repeated
+    // within the sheet is rejected, since it would match the same syllabus twice.
+    private Map<String, SyllabusRepository.CourseCodeRow> findExistingCourses(Long academicPeriodId, List<Syllabus> parsedList) {
+        Set<String> codes = new HashSet<>();
+        for (Syllabus parsed : parsedList) {
+            String code = normalizeCourseCode(parsed.getCourseCode());
+            if (code != null && !codes.add(code)) {
+                throw new RuntimeException("El código " + code + " aparece más de una vez en el archivo.");
+            }
+        }
+        Map<String, SyllabusRepository.CourseCodeRow> existing = new HashMap<>();
+        List<String> all = new ArrayList<>(codes);
+        for (int from = 0; from < all.size(); from += upsertChunkSize) {
+            List<String> chunk = all.subList(from, Math.min(from + upsertChunkSize, all.size()));
+            for (SyllabusRepository.CourseCodeRow row : syllabusRepository.findCourseCodeRows(academicPeriodId, chunk)) {
+                existing.put(row.getCourseCode(), row);
             }
         }
+        return existing;
+    }
 
-        return savedSyllabi;
+    // All professors named in the sheet with one query, keyed by lower-cased email
+    private Map<String, User> findProfessors(List<Syllabus> parsedList) {
+        Set<String> emails = new HashSet<>();
+        for (Syllabus parsed : parsedList) {
+            if (parsed.getProfessorEmail() != null && !parsed.getProfessorEmail().isEmpty()) {
+                emails.add(parsed.getProfessorEmail());
+            }
+        }
+        Map<String, User> professors = new HashMap<>();
+        if (!emails.isEmpty()) {
+            for (User user : userRepository.findByUsernameIn(emails)) {
+                professors.put(user.getUsername().toLowerCase(), user);
+            }
+        }
+        for (String email : emails) {
+            User professor = professors.get(email.toLowerCase());
+            if (professor == null) {
+                throw new RuntimeException("Professor not found: " + email);
+            }
+            if (professor.getRole() != User.Role.PROFESSOR) {
+                throw new RuntimeException("User " + email + " is not a professor");
+            }
+        }
+        return professors;
     }
 
-    private Evaluation createEvaluation(String name, Double weight, Syllabus syllabus, Long createdBy) {
-        return Evaluation.builder()
-                .name(name)
-                .weight(weight)
-                .syllabus(syllabus)
-                .createdBy(createdBy)
-                .build();
+    // Blank codes are stored as NULL so they never collide on uk_syllabi_period_course_code
+    static String normalizeCourseCode(String courseCode) {
+        if (courseCode == null || courseCode.trim().isEmpty()) {
+            return null;
+        }
+        return courseCode.trim();
+    }
+
+    // Bulk import duration per stage: parse (Excel), validate (career scope), persist (lookups + inserts)
+    private Timer importStage(String stage) {
+        return Timer.builder("sygsy.import.stage")
+                .description("Bulk syllabus import duration per stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    // Same stages as JFR events, so a recording shows which upload was slow and where
+    private static ImportStageEvent beginStage() {
+        ImportStageEvent event = new ImportStageEvent();
+        event.begin();
+        return event;
     }
 
-    private String toRoman(int number) {
-        switch (number) {
-            case 1: return "I";
-            case 2: return "II";
-            case 3: return "III";
-            case 4: return "IV";
-            default: return String.valueOf(number);
+    private static void commitStage(ImportStageEvent event, String stage, Long academicPeriodId, String coordinator, int rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.stage = stage;
+            event.academicPeriodId = academicPeriodId != null ? academicPeriodId : 0;
+            event.coordinator = coordinator;
+            event.rows = rows;
+            event.commit();
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Syllabus> getAllSyllabi() {
-        return syllabusRepository.findAll();
+        return initializeCollections(syllabusRepository.findAllForList());
     }
 
+    @Transactional(readOnly = true)
     public List<Syllabus> getSyllabiByStatus(Syllabus.SyllabusStatus workflowStatus) {
-        return syllabusRepository.findByWorkflowStatus(workflowStatus);
+        return initializeCollections(syllabusRepository.findByWorkflowStatus(workflowStatus));
     }
 
+    @Transactional(readOnly = true)
     public List<Syllabus> getSyllabi(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         if (user.getRole() == User.Role.PROFESSOR) {
-            return syllabusRepository.findByProfessor(user);
+            return initializeCollections(syllabusRepository.findByProfessor(user));
         } else if (user.getRole() == User.Role.COORDINATOR) {
             // Filter by Career if set
-            List<Syllabus> allSyllabi = syllabusRepository.findAll();
-            if (user.getCareer() != null && !user.getCareer().isEmpty()) {
-                List<Syllabus> filtered = new ArrayList<>();
-                for (Syllabus s : allSyllabi) {
-                    // Assuming Syllabus has 'career' field as String matching User's career
-                    if (user.getCareer().equalsIgnoreCase(s.getCareer())) {
-                        filtered.add(s);
-                    }
-                }
-                return filtered;
+            if (user.getCareerId() != null) {
+                return initializeCollections(syllabusRepository.findForListByCareerId(user.getCareerId()));
             }
-            return allSyllabi; // If no career assigned, show all or none? User implies strictness.
+            return initializeCollections(syllabusRepository.findAllForList()); // If no career assigned, show all or none? User implies strictness.
             // But let's show all for now if scope is null, or maybe none?
             // "no debería poderse ver los sílabos de otro coordinador" -> Implies strict.
             // If null, maybe they are a Super Coordinator? Let's default to all if null for safety of existing usage,
@@ -322,15 +544,84 @@ public class SyllabusService {
         return new ArrayList<>(); // Fallback
     }
 
+    // Checked before the export response starts, so errors still become a normal 400
+    @Transactional(readOnly = true)
+    public AcademicPeriod getExportPeriod(Long academicPeriodId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (user.getRole() != User.Role.COORDINATOR) {
+            throw new RuntimeException("Only coordinators can export syllabi");
+        }
+        return academicPeriodRepository.findById(academicPeriodId)
+                .orElseThrow(() -> new RuntimeException("Academic period not found"));
+    }
+
+    /**
+     * Streams the period's syllabi (only the caller's career for career-scoped coordinators) into
+     * an xlsx written to out. The transaction stays open while rows are read through the cursor.
+     */
+    @Transactional(readOnly = true)
+    public long exportSyllabi(Long academicPeriodId, String username, OutputStream out) throws IOException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        try (Stream<SyllabusRepository.ExportRow> rows = syllabusRepository.streamForExport(academicPeriodId, user.getCareerId())) {
+            return excelService.writeSyllabi(rows, out);
+        }
+    }
+
+    // The syllabi of an earlier import, in the order they were created; deleted ones are left out
+    @Transactional(readOnly = true)
+    public List<Syllabus> getSyllabiByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Syllabus> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            for (Syllabus syllabus : syllabusRepository.findForListByIdIn(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))) {
+                byId.put(syllabus.getId(), syllabus);
+            }
+        }
+        List<Syllabus> ordered = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            Syllabus syllabus = byId.get(id);
+            if (syllabus != null) {
+                ordered.add(syllabus);
+            }
+        }
+        return initializeCollections(ordered);
+    }
+
+    @Transactional(readOnly = true)
     public List<Syllabus> getSyllabiByProfessor(String username) {
         User professor = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Professor not found"));
-        return syllabusRepository.findByProfessor(professor);
+        return initializeCollections(syllabusRepository.findByProfessor(professor));
     }
 
+    @Transactional(readOnly = true)
     public Syllabus getSyllabus(Long id) {
-        return syllabusRepository.findById(id)
+        Syllabus syllabus = syllabusRepository.findDetailById(id)
+                .orElseThrow(() -> new RuntimeException("Syllabus not found"));
+        Hibernate.initialize(syllabus.getEvaluations());
+        return syllabus;
+    }
+
+    @Transactional(readOnly = true)
+    public Syllabus getSyllabusForPdf(Long id) {
+        Syllabus syllabus = syllabusRepository.findForPdfById(id)
                 .orElseThrow(() -> new RuntimeException("Syllabus not found"));
+        Hibernate.initialize(syllabus.getEvaluations());
+        return syllabus;
+    }
+
+    // Open-in-view is off: lists are serialized with their units and evaluations, so load them here.
+    // Thanks to SUBSELECT fetching this costs one query per collection type, not one per syllabus.
+    private List<Syllabus> initializeCollections(List<Syllabus> syllabi) {
+        for (Syllabus syllabus : syllabi) {
+            Hibernate.initialize(syllabus.getUnits());
+            Hibernate.initialize(syllabus.getEvaluations());
+        }
+        return syllabi;
     }
 
     @Transactional
@@ -369,11 +660,112 @@ public class SyllabusService {
     @Transactional
     public Syllabus updateStatus(Long id, Syllabus.SyllabusStatus workflowStatus) {
         Syllabus syllabus = getSyllabus(id);
+        Syllabus.SyllabusStatus previousStatus = syllabus.getWorkflowStatus();
         syllabus.setWorkflowStatus(workflowStatus);
-        return syllabusRepository.save(syllabus);
+        Syllabus saved = syllabusRepository.save(syllabus);
+        if (previousStatus != workflowStatus) {
+            eventPublisher.publishEvent(SyllabusChangedEvent.statusChanged(saved, previousStatus));
+        }
+        return saved;
     }
 
+    /**
+     * Moves many syllabi to the same status with one UPDATE per source status instead of
+     * loading and saving each entity. Returns one result per requested (or matched) id.
+     */
+    @Transactional
+    public List<BulkStatusResultDTO> bulkUpdateStatus(BulkStatusUpdateDTO dto, String coordinatorUsername) {
+        User coordinator = userRepository.findByUsername(coordinatorUsername)
+                .orElseThrow(() -> new RuntimeException("Coordinator not found"));
+
+        if (coordinator.getRole() != User.Role.COORDINATOR) {
+            throw new RuntimeException("Only coordinators can change the status of several syllabi");
+        }
+
+        Syllabus.SyllabusStatus target = dto.getTargetStatus();
+        if (target == null) {
+            throw new RuntimeException("Target status must be provided");
+        }
+
+        boolean byIds = dto.getIds() != null && !dto.getIds().isEmpty();
+        if (!byIds && dto.getCurrentStatus() == null) {
+            throw new RuntimeException("Provide syllabus ids or a filter with the current status");
+        }
+
+        Career filter = careerService.resolve(dto.getCareer());
+        Long filterCareerId = filter != null ? filter.getId() : null;
+        Long scopeCareerId = coordinator.getCareerId();
+
+        List<SyllabusRepository.WorkflowRow> rows = new ArrayList<>();
+        if (byIds) {
+            List<Long> requested = new ArrayList<>(new LinkedHashSet<>(dto.getIds()));
+            for (int from = 0; from < requested.size(); from += ID_CHUNK_SIZE) {
+                rows.addAll(syllabusRepository.findWorkflowRowsByIdIn(requested.subList(from, Math.min(from + ID_CHUNK_SIZE, requested.size()))));
+            }
+        } else {
+            rows = syllabusRepository.findWorkflowRowsByFilter(dto.getCurrentStatus(), dto.getAcademicPeriodId(), filterCareerId != null ? filterCareerId : scopeCareerId);
+        }
+
+        // Keep request order for ids; unknown ids are reported as NOT_FOUND
+        Map<Long, BulkStatusResultDTO> results = new LinkedHashMap<>();
+        if (byIds) {
+            for (Long id : dto.getIds()) {
+                results.put(id, new BulkStatusResultDTO(id, BulkStatusResultDTO.Outcome.NOT_FOUND, "Syllabus not found"));
+            }
+        }
+
+        Map<Syllabus.SyllabusStatus, List<SyllabusRepository.WorkflowRow>> candidates = new EnumMap<>(Syllabus.SyllabusStatus.class);
+        for (SyllabusRepository.WorkflowRow row : rows) {
+            if (scopeCareerId != null && !scopeCareerId.equals(row.getCareerId())) {
+                results.put(row.getId(), new BulkStatusResultDTO(row.getId(), BulkStatusResultDTO.Outcome.OUT_OF_SCOPE,
+                        "Usted es coordinador de '" + coordinator.getCareer() + "' y no puede modificar sílabos de la carrera '" + row.getCareer() + "'."));
+            } else if ((dto.getCurrentStatus() != null && row.getWorkflowStatus() != dto.getCurrentStatus())
+                    || (dto.getAcademicPeriodId() != null && !dto.getAcademicPeriodId().equals(row.getAcademicPeriodId()))
+                    || (filterCareerId != null && !filterCareerId.equals(row.getCareerId()))) {
+                results.put(row.getId(), new BulkStatusResultDTO(row.getId(), BulkStatusResultDTO.Outcome.SKIPPED,
+                        "Syllabus does not match the requested filter (status " + row.getWorkflowStatus() + ")"));
+            } else if (row.getWorkflowStatus() == null || !row.getWorkflowStatus().canTransitionTo(target)) {
+                results.put(row.getId(), new BulkStatusResultDTO(row.getId(), BulkStatusResultDTO.Outcome.INVALID_TRANSITION,
+                        "Cannot change status from " + row.getWorkflowStatus() + " to " + target));
+            } else {
+                candidates.computeIfAbsent(row.getWorkflowStatus(), k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        List<SyllabusChangedEvent> changes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        candidates.forEach((current, group) -> {
+            List<Long> ids = group.stream().map(SyllabusRepository.WorkflowRow::getId).toList();
+            // Rows changed by someone else since the read are left untouched by the WHERE clause and not returned
+            Set<Long> applied = new HashSet<>();
+            for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+                applied.addAll(syllabusRepository.updateWorkflowStatus(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())),
+                        current.name(), target.name(), coordinator.getId(), now));
+            }
+
+            for (SyllabusRepository.WorkflowRow row : group) {
+                if (applied.contains(row.getId())) {
+                    results.put(row.getId(), new BulkStatusResultDTO(row.getId(), BulkStatusResultDTO.Outcome.UPDATED, null));
+                    changes.add(new SyllabusChangedEvent(SyllabusChangedEvent.Type.STATUS_CHANGED, row.getId(), row.getAcademicPeriodId(),
+                            row.getCourseName(), row.getProfessorId(), row.getCareer(), row.getCareer(), row.getCareerId(), row.getCareerId(), current, target));
+                } else {
+                    results.put(row.getId(), new BulkStatusResultDTO(row.getId(), BulkStatusResultDTO.Outcome.CONFLICT,
+                            "Status changed concurrently"));
+                }
+            }
+        });
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new SyllabusBatchChangedEvent(changes));
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    @Transactional
     public void deleteSyllabus(Long id) {
-        syllabusRepository.deleteById(id);
+        syllabusRepository.findById(id).ifPresent(syllabus -> {
+            syllabusRepository.delete(syllabus);
+            eventPublisher.publishEvent(SyllabusChangedEvent.deleted(syllabus));
+        });
     }
 }
@@ -0,0 +1,272 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.Evaluation;
+import com.sygsy.backend.domain.Syllabus;
+import com.sygsy.backend.domain.SyllabusTemplate;
+import com.sygsy.backend.domain.SyllabusUnit;
+import com.sygsy.backend.domain.TemplateEvaluation;
+import com.sygsy.backend.domain.TemplateUnit;
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.repository.SyllabusTemplateRepository;
+import com.sygsy.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default units and evaluations for new syllabi. Templates are few and change rarely, so they are
+ * kept in memory as immutable prototypes keyed by (career, period) and reloaded after a template
+ * is saved or deleted. Creating a syllabus or importing a sheet then only copies a prototype.
+ * The most specific template wins: career + period, career, period, global, then the built-in one.
+ */
+@Service
+public class SyllabusTemplateService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyllabusTemplateService.class);
+
+    private static final int MAX_UNITS = 12;
+    private static final int MAX_EVALUATIONS = 12;
+
+    // What SyllabusService always created before templates existed; used if the table is empty
+    private static final Template BUILT_IN = new Template(null,
+            List.of(new UnitSpec(1, "UNIDAD I"), new UnitSpec(2, "UNIDAD II"), new UnitSpec(3, "UNIDAD III"), new UnitSpec(4, "UNIDAD IV")),
+            List.of(new EvaluationSpec("EVIDENCIA 1", 0.10), new EvaluationSpec("EVIDENCIA 2", 0.10),
+                    new EvaluationSpec("EXAMEN PARCIAL", 0.30), new EvaluationSpec("EVIDENCIA 3", 0.10),
+                    new EvaluationSpec("EVIDENCIA 4", 0.10), new EvaluationSpec("EXAMEN FINAL", 0.30)));
+
+    private final SyllabusTemplateRepository templateRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate reloadTransaction;
+    private final MeterRegistry meterRegistry;
+
+    // Replaced as a whole on reload, never modified, so readers need no locking
+    private volatile Map<Key, Template> templates = Map.of();
+
+    public SyllabusTemplateService(SyllabusTemplateRepository templateRepository, UserRepository userRepository,
+                                   ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.templateRepository = templateRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.reloadTransaction = new TransactionTemplate(transactionManager);
+        this.reloadTransaction.setReadOnly(true);
+        // Reloads run after the writer's commit, while its synchronization is still bound
+        this.reloadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("sygsy.templates.cached", this, service -> service.templates.size())
+                .description("Syllabus templates held in memory")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<Key, Template> loaded = reloadTransaction.execute(status -> {
+            Map<Key, Template> byScope = new HashMap<>();
+            for (SyllabusTemplate template : templateRepository.findAll()) {
+                byScope.put(new Key(template.getCareerId(), template.getAcademicPeriodId()), Template.of(template));
+            }
+            return byScope;
+        });
+        templates = Map.copyOf(loaded);
+        log.info("Loaded {} syllabus templates.", templates.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTemplatesChanged(TemplatesChangedEvent event) {
+        reload();
+    }
+
+    // In-memory lookup, no database access
+    public Template resolve(Long careerId, Long academicPeriodId) {
+        Map<Key, Template> current = templates;
+        for (Key key : List.of(new Key(careerId, academicPeriodId), new Key(careerId, null), new Key(null, academicPeriodId), new Key(null, null))) {
+            Template template = current.get(key);
+            if (template != null) {
+                resolutions(key.scope()).increment();
+                return template;
+            }
+        }
+        resolutions("built-in").increment();
+        return BUILT_IN;
+    }
+
+    private Counter resolutions(String match) {
+        return Counter.builder("sygsy.templates.resolve")
+                .description("Template lookups by the scope that matched")
+                .tag("match", match)
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SyllabusTemplate> getAllTemplates() {
+        List<SyllabusTemplate> all = templateRepository.findAll();
+        for (SyllabusTemplate template : all) {
+            Hibernate.initialize(template.getUnits());
+            Hibernate.initialize(template.getEvaluations());
+        }
+        return all;
+    }
+
+    /**
+     * Creates or replaces the template for the (career, period) of the request. A coordinator with
+     * a career can only manage templates of that career; the admin manages any, including global ones.
+     */
+    @Transactional
+    public SyllabusTemplate saveTemplate(SyllabusTemplate request, String coordinatorUsername) {
+        User coordinator = requireCoordinator(coordinatorUsername);
+        Long careerId = coordinator.getCareerId() != null ? coordinator.getCareerId() : request.getCareerId();
+        if (request.getCareerId() != null && !request.getCareerId().equals(careerId)) {
+            throw new RuntimeException("Usted es coordinador de '" + coordinator.getCareer() + "' y no puede definir plantillas de otra carrera.");
+        }
+        validate(request);
+
+        SyllabusTemplate template = templateRepository.findByScope(careerId, request.getAcademicPeriodId())
+                .orElseGet(() -> {
+                    SyllabusTemplate created = new SyllabusTemplate();
+                    created.setCareerId(careerId);
+                    created.setAcademicPeriodId(request.getAcademicPeriodId());
+                    created.setCreatedBy(coordinator.getId());
+                    return created;
+                });
+        template.getUnits().clear();
+        for (TemplateUnit unit : request.getUnits()) {
+            template.getUnits().add(new TemplateUnit(unit.getTitle().trim()));
+        }
+        template.getEvaluations().clear();
+        for (TemplateEvaluation evaluation : request.getEvaluations()) {
+            template.getEvaluations().add(new TemplateEvaluation(evaluation.getName().trim(), evaluation.getWeight()));
+        }
+        template.setModifiedBy(coordinator.getId());
+
+        SyllabusTemplate saved = templateRepository.save(template);
+        eventPublisher.publishEvent(new TemplatesChangedEvent());
+        return saved;
+    }
+
+    @Transactional
+    public void deleteTemplate(Long id, String coordinatorUsername) {
+        User coordinator = requireCoordinator(coordinatorUsername);
+        SyllabusTemplate template = templateRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Template not found"));
+        if (coordinator.getCareerId() != null && !coordinator.getCareerId().equals(template.getCareerId())) {
+            throw new RuntimeException("Usted es coordinador de '" + coordinator.getCareer() + "' y no puede eliminar plantillas de otra carrera.");
+        }
+        templateRepository.delete(template);
+        eventPublisher.publishEvent(new TemplatesChangedEvent());
+    }
+
+    private User requireCoordinator(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Coordinator not found"));
+        if (user.getRole() != User.Role.COORDINATOR) {
+            throw new RuntimeException("Only coordinators can manage syllabus templates");
+        }
+        return user;
+    }
+
+    private static void validate(SyllabusTemplate request) {
+        if (request.getUnits() == null || request.getUnits().isEmpty() || request.getUnits().size() > MAX_UNITS) {
+            throw new RuntimeException("La plantilla debe tener entre 1 y " + MAX_UNITS + " unidades.");
+        }
+        for (TemplateUnit unit : request.getUnits()) {
+            if (unit.getTitle() == null || unit.getTitle().trim().isEmpty()) {
+                throw new RuntimeException("Todas las unidades de la plantilla necesitan un título.");
+            }
+        }
+        if (request.getEvaluations() == null || request.getEvaluations().isEmpty() || request.getEvaluations().size() > MAX_EVALUATIONS) {
+            throw new RuntimeException("La plantilla debe tener entre 1 y " + MAX_EVALUATIONS + " evaluaciones.");
+        }
+        double total = 0;
+        for (TemplateEvaluation evaluation : request.getEvaluations()) {
+            if (evaluation.getName() == null || evaluation.getName().trim().isEmpty()
+                    || evaluation.getWeight() == null || evaluation.getWeight() <= 0) {
+                throw new RuntimeException("Cada evaluación de la plantilla necesita un nombre y un peso mayor que cero.");
+            }
+            total += evaluation.getWeight();
+        }
+        if (Math.abs(total - 1.0) > 0.001) {
+            throw new RuntimeException("Los pesos de las evaluaciones deben sumar 100% (suman " + Math.round(total * 100) + "%).");
+        }
+    }
+
+    /** Published after a template is saved or deleted; the cache reloads once the change is committed. */
+    public record TemplatesChangedEvent() {
+    }
+
+    private record Key(Long careerId, Long academicPeriodId) {
+        String scope() {
+            if (careerId != null) return academicPeriodId != null ? "career-period" : "career";
+            return academicPeriodId != null ? "period" : "global";
+        }
+    }
+
+    public record UnitSpec(int number, String title) {
+    }
+
+    public record EvaluationSpec(String name, double weight) {
+    }
+
+    /**
+     * Immutable prototype of a template. Copies are plain entities wired to the given syllabus,
+     * created with constructors and setters rather than builders since imports make thousands.
+     */
+    public record Template(Long id, List<UnitSpec> units, List<EvaluationSpec> evaluations) {
+
+        private static Template of(SyllabusTemplate entity) {
+            List<UnitSpec> units = new ArrayList<>(entity.getUnits().size());
+            for (int i = 0; i < entity.getUnits().size(); i++) {
+                units.add(new UnitSpec(i + 1, entity.getUnits().get(i).getTitle()));
+            }
+            List<EvaluationSpec> evaluations = new ArrayList<>(entity.getEvaluations().size());
+            for (TemplateEvaluation evaluation : entity.getEvaluations()) {
+                evaluations.add(new EvaluationSpec(evaluation.getName(), evaluation.getWeight()));
+            }
+            return new Template(entity.getId(), List.copyOf(units), List.copyOf(evaluations));
+        }
+
+        public List<SyllabusUnit> newUnits(Syllabus syllabus, Long createdBy) {
+            List<SyllabusUnit> copies = new ArrayList<>(units.size());
+            for (UnitSpec spec : units) {
+                SyllabusUnit unit = new SyllabusUnit();
+                unit.setUnitNumber(spec.number());
+                unit.setTitle(spec.title());
+                unit.setSyllabus(syllabus);
+                unit.setCreatedBy(createdBy);
+                copies.add(unit);
+            }
+            return copies;
+        }
+
+        public List<Evaluation> newEvaluations(Syllabus syllabus, Long createdBy) {
+            List<Evaluation> copies = new ArrayList<>(evaluations.size());
+            for (EvaluationSpec spec : evaluations) {
+                Evaluation evaluation = new Evaluation();
+                evaluation.setName(spec.name());
+                evaluation.setWeight(spec.weight());
+                evaluation.setSyllabus(syllabus);
+                evaluation.setCreatedBy(createdBy);
+                copies.add(evaluation);
+            }
+            return copies;
+        }
+    }
+}
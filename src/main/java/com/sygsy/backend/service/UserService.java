@@ -0,0 +1,48 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.Career;
+import com.sygsy.backend.domain.User;
+import com.sygsy.backend.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final CareerService careerService;
+
+    public UserService(UserRepository userRepository, CareerService careerService) {
+        this.userRepository = userRepository;
+        this.careerService = careerService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<User> getAllUsers() {
+        return userRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<User> getUsersByRole(User.Role role) {
+        return userRepository.findByRole(role);
+    }
+
+    // Empty when there is no user with that id
+    @Transactional
+    public Optional<User> updateUser(Long id, User updatedUser) {
+        return userRepository.findById(id)
+                .map(user -> {
+                    if (updatedUser.getCareer() != null) {
+                        // An empty name clears the career (coordinator without scope)
+                        Career career = careerService.resolve(updatedUser.getCareer());
+                        user.setCareer(career != null ? career.getName() : null);
+                        user.setCareerId(career != null ? career.getId() : null);
+                    }
+                    if (updatedUser.getFullName() != null) user.setFullName(updatedUser.getFullName());
+                    return userRepository.save(user);
+                });
+    }
+}
@@ -0,0 +1,103 @@
+-- Schema as previously generated by hibernate.ddl-auto=update. Existing databases are baselined
+-- at version 1 (spring.flyway.baseline-on-migrate), so this script only runs on empty databases.
+
+CREATE TABLE careers (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_careers_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    full_name   VARCHAR(255) NOT NULL,
+    career      VARCHAR(255),
+    role        VARCHAR(255) NOT NULL CHECK (role IN ('COORDINATOR', 'PROFESSOR')),
+    status      VARCHAR(255) NOT NULL,
+    created_id  BIGINT,
+    modified_id BIGINT,
+    created     TIMESTAMP(6) NOT NULL,
+    modified    TIMESTAMP(6),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE academic_periods (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    start_date     DATE NOT NULL,
+    end_date       DATE NOT NULL,
+    coordinator_id BIGINT NOT NULL REFERENCES users (id),
+    status         VARCHAR(255) NOT NULL,
+    created_id     BIGINT,
+    modified_id    BIGINT,
+    created        TIMESTAMP(6) NOT NULL,
+    modified       TIMESTAMP(6),
+    CONSTRAINT uk_academic_periods_name UNIQUE (name)
+);
+
+CREATE TABLE syllabi (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    faculty             VARCHAR(255),
+    career              VARCHAR(255),
+    academic_period_id  BIGINT NOT NULL REFERENCES academic_periods (id),
+    semester            VARCHAR(255),
+    credits             INTEGER,
+    total_hours         INTEGER,
+    theory_hours        INTEGER,
+    practice_hours      INTEGER,
+    training_area       VARCHAR(255),
+    course_code         VARCHAR(255),
+    course_name         VARCHAR(255),
+    course_type         VARCHAR(255),
+    prerequisites       VARCHAR(255),
+    professor_id        BIGINT REFERENCES users (id),
+    professor_email     VARCHAR(255),
+    coordinator_id      BIGINT REFERENCES users (id),
+    course_competence   TEXT,
+    profile_competence  TEXT,
+    previous_competence TEXT,
+    sumilla             TEXT,
+    bibliography        TEXT,
+    activities          TEXT,
+    workflow_status     VARCHAR(255) CHECK (workflow_status IN ('CREATED', 'ASSIGNED', 'SUBMITTED', 'APPROVED', 'RETURNED')),
+    status              VARCHAR(255) NOT NULL,
+    created_id          BIGINT,
+    modified_id         BIGINT,
+    created             TIMESTAMP(6) NOT NULL,
+    modified            TIMESTAMP(6)
+);
+
+CREATE TABLE syllabus_units (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    unit_number  INTEGER,
+    title        VARCHAR(255),
+    start_date   DATE,
+    end_date     DATE,
+    content      TEXT,
+    week1content TEXT,
+    week2content TEXT,
+    week3content TEXT,
+    week4content TEXT,
+    methodology  TEXT,
+    syllabus_id  BIGINT REFERENCES syllabi (id),
+    status       VARCHAR(255) NOT NULL,
+    created_id   BIGINT,
+    modified_id  BIGINT,
+    created      TIMESTAMP(6) NOT NULL,
+    modified     TIMESTAMP(6)
+);
+
+CREATE TABLE evaluations (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name               VARCHAR(255),
+    weight             DOUBLE PRECISION,
+    consolidation_date DATE,
+    description        TEXT,
+    syllabus_id        BIGINT REFERENCES syllabi (id),
+    status             VARCHAR(255) NOT NULL,
+    created_id         BIGINT,
+    modified_id        BIGINT,
+    created            TIMESTAMP(6) NOT NULL,
+    modified           TIMESTAMP(6)
+);
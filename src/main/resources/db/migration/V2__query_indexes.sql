@@ -0,0 +1,24 @@
+-- Indexes for the repository queries. IF NOT EXISTS because databases baselined from
+-- ddl-auto=update may already have some of them created by hand.
+
+-- Coordinator lists and bulk transitions filter on LOWER(TRIM(career)) (SyllabusRepository.findForListByCareer,
+-- findWorkflowRowsByFilter); Hibernate renders TRIM as btrim, so the expression must match exactly.
+CREATE INDEX IF NOT EXISTS idx_syllabi_career_period ON syllabi (lower(btrim(career)), academic_period_id);
+
+-- findByWorkflowStatus, findWorkflowRowsByFilter, dashboard seed (period, career, status)
+CREATE INDEX IF NOT EXISTS idx_syllabi_status_period ON syllabi (workflow_status, academic_period_id);
+
+-- Professor home (findByProfessor) and countByProfessorGroupedByStatus
+CREATE INDEX IF NOT EXISTS idx_syllabi_professor_status ON syllabi (professor_id, workflow_status);
+
+-- Export by period ordered by id; also serves the academic_period_id foreign key
+CREATE INDEX IF NOT EXISTS idx_syllabi_period_id ON syllabi (academic_period_id, id);
+
+-- Foreign keys that are otherwise scanned on delete and on joins
+CREATE INDEX IF NOT EXISTS idx_syllabi_coordinator ON syllabi (coordinator_id);
+CREATE INDEX IF NOT EXISTS idx_syllabus_units_syllabus ON syllabus_units (syllabus_id, unit_number);
+CREATE INDEX IF NOT EXISTS idx_evaluations_syllabus ON evaluations (syllabus_id);
+CREATE INDEX IF NOT EXISTS idx_academic_periods_coordinator ON academic_periods (coordinator_id);
+
+-- UserRepository.findByRole (professor and coordinator pickers)
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
@@ -0,0 +1,47 @@
+-- Syllabi and users reference the career catalog by id. The free-text career column stays as the
+-- display name (the frontend and the PDF show it), but scope checks and filters use career_id.
+
+-- Case, accent and spacing-insensitive key; Career.normalize applies the same rule in Java.
+-- translate() instead of the unaccent extension, which needs superuser rights to install.
+CREATE OR REPLACE FUNCTION sygsy_normalize_career(name TEXT) RETURNS TEXT AS $$
+    SELECT lower(regexp_replace(btrim(translate(name,
+        'ÁÉÍÓÚÜÑÀÈÌÒÙÂÊÎÔÛÄËÏÖÇáéíóúüñàèìòùâêîôûäëïöç',
+        'AEIOUUNAEIOUAEIOUAEIOCaeiouunaeiouaeiouaeioc')), '\s+', ' ', 'g'))
+$$ LANGUAGE SQL IMMUTABLE;
+
+ALTER TABLE careers ADD COLUMN normalized_name VARCHAR(255);
+UPDATE careers SET normalized_name = sygsy_normalize_career(name);
+
+-- Catalog entries that only differ in case or accents collapse into the oldest one
+DELETE FROM careers c USING careers older
+WHERE older.normalized_name = c.normalized_name AND older.id < c.id;
+
+-- Careers typed into syllabi or users that never made it into the catalog are added, keeping
+-- the most frequent spelling as the display name
+INSERT INTO careers (name, normalized_name)
+SELECT DISTINCT ON (sygsy_normalize_career(career)) btrim(career), sygsy_normalize_career(career)
+FROM (SELECT career FROM syllabi UNION ALL SELECT career FROM users) AS used
+WHERE btrim(coalesce(career, '')) <> ''
+  AND NOT EXISTS (SELECT 1 FROM careers c WHERE c.normalized_name = sygsy_normalize_career(used.career))
+GROUP BY career
+ORDER BY sygsy_normalize_career(career), count(*) DESC, btrim(career);
+
+ALTER TABLE careers ALTER COLUMN normalized_name SET NOT NULL;
+ALTER TABLE careers ADD CONSTRAINT uk_careers_normalized_name UNIQUE (normalized_name);
+
+ALTER TABLE syllabi ADD COLUMN career_id BIGINT REFERENCES careers (id);
+ALTER TABLE users ADD COLUMN career_id BIGINT REFERENCES careers (id);
+
+-- Backfill the ids and align the display names with the catalog spelling
+UPDATE syllabi s SET career_id = c.id, career = c.name
+FROM careers c
+WHERE c.normalized_name = sygsy_normalize_career(s.career);
+
+UPDATE users u SET career_id = c.id, career = c.name
+FROM careers c
+WHERE c.normalized_name = sygsy_normalize_career(u.career);
+
+-- Coordinator lists, bulk transitions and the dashboard seed filter or group on the id now
+DROP INDEX IF EXISTS idx_syllabi_career_period;
+CREATE INDEX idx_syllabi_career_period ON syllabi (career_id, academic_period_id);
+CREATE INDEX idx_users_career ON users (career_id);
@@ -0,0 +1,7 @@
+-- Period rollover (POST /api/academic-periods/{id}/clone-from/{sourceId}) copies syllabi with one
+-- INSERT ... SELECT; cloned_from_id links each copy to its source so units and evaluations can
+-- follow with two more set-based statements. It is not mapped by JPA.
+ALTER TABLE syllabi ADD COLUMN cloned_from_id BIGINT REFERENCES syllabi (id) ON DELETE SET NULL;
+
+-- Deleting a source syllabus looks its copies up through the foreign key
+CREATE INDEX idx_syllabi_cloned_from ON syllabi (cloned_from_id) WHERE cloned_from_id IS NOT NULL;
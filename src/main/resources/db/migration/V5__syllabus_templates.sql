@@ -0,0 +1,44 @@
+-- Default units and evaluations given to new syllabi, per career and/or academic period.
+-- A NULL career or period means "any"; SyllabusTemplateService picks the most specific match.
+CREATE TABLE syllabus_templates (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    career_id          BIGINT REFERENCES careers (id) ON DELETE CASCADE,
+    academic_period_id BIGINT REFERENCES academic_periods (id) ON DELETE CASCADE,
+    created_id         BIGINT,
+    modified_id        BIGINT,
+    created            TIMESTAMP(6) NOT NULL,
+    modified           TIMESTAMP(6)
+);
+
+-- One template per (career, period) pair, NULLs included
+CREATE UNIQUE INDEX uk_syllabus_templates_scope
+    ON syllabus_templates (COALESCE(career_id, 0), COALESCE(academic_period_id, 0));
+
+CREATE TABLE syllabus_template_units (
+    template_id BIGINT NOT NULL REFERENCES syllabus_templates (id) ON DELETE CASCADE,
+    position    INTEGER NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (template_id, position)
+);
+
+CREATE TABLE syllabus_template_evaluations (
+    template_id BIGINT NOT NULL REFERENCES syllabus_templates (id) ON DELETE CASCADE,
+    position    INTEGER NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    weight      DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (template_id, position)
+);
+
+-- The structure SyllabusService used to hardcode, as the global default
+INSERT INTO syllabus_templates (created) VALUES (now());
+
+INSERT INTO syllabus_template_units (template_id, position, title)
+SELECT t.id, u.position, u.title
+FROM syllabus_templates t,
+     (VALUES (0, 'UNIDAD I'), (1, 'UNIDAD II'), (2, 'UNIDAD III'), (3, 'UNIDAD IV')) AS u (position, title);
+
+INSERT INTO syllabus_template_evaluations (template_id, position, name, weight)
+SELECT t.id, e.position, e.name, e.weight
+FROM syllabus_templates t,
+     (VALUES (0, 'EVIDENCIA 1', 0.10), (1, 'EVIDENCIA 2', 0.10), (2, 'EXAMEN PARCIAL', 0.30),
+             (3, 'EVIDENCIA 3', 0.10), (4, 'EVIDENCIA 4', 0.10), (5, 'EXAMEN FINAL', 0.30)) AS e (position, name, weight);
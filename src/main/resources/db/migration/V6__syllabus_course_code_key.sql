@@ -0,0 +1,44 @@
+-- A course code identifies a syllabus within its academic period, which is what the upsert import
+-- matches on (INSERT ... ON CONFLICT (academic_period_id, course_code)).
+
+-- Blank codes are stored as NULL so they never collide; such rows are always inserted
+UPDATE syllabi SET course_code = NULL WHERE btrim(course_code) = '';
+UPDATE syllabi SET course_code = btrim(course_code) WHERE course_code <> btrim(course_code);
+
+-- Duplicates left by repeated bulk uploads: the oldest row keeps the code, the others get their
+-- id appended so they stay visible and can be reviewed or deleted by a coordinator. Every rename is
+-- recorded first, with the row that kept the code, so none of them is silent.
+CREATE TABLE syllabus_course_code_renames (
+    syllabus_id BIGINT PRIMARY KEY,
+    academic_period_id BIGINT NOT NULL,
+    original_course_code VARCHAR(255) NOT NULL,
+    renamed_course_code VARCHAR(255) NOT NULL,
+    kept_by_syllabus_id BIGINT NOT NULL,
+    renamed_at TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+INSERT INTO syllabus_course_code_renames (syllabus_id, academic_period_id, original_course_code, renamed_course_code, kept_by_syllabus_id)
+SELECT s.id, s.academic_period_id, s.course_code, s.course_code || '#' || s.id,
+       (SELECT MIN(oldest.id) FROM syllabi oldest
+        WHERE oldest.academic_period_id = s.academic_period_id AND oldest.course_code = s.course_code)
+FROM syllabi s
+WHERE EXISTS (SELECT 1 FROM syllabi older
+              WHERE older.academic_period_id = s.academic_period_id
+                AND older.course_code = s.course_code
+                AND older.id < s.id);
+
+UPDATE syllabi s SET course_code = r.renamed_course_code
+FROM syllabus_course_code_renames r
+WHERE r.syllabus_id = s.id;
+
+DO $$
+DECLARE
+    renamed INTEGER;
+BEGIN
+    SELECT COUNT(*) INTO renamed FROM syllabus_course_code_renames;
+    IF renamed > 0 THEN
+        RAISE WARNING '% syllabi had a course code already used in their period and were renamed; see syllabus_course_code_renames', renamed;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX uk_syllabi_period_course_code ON syllabi (academic_period_id, course_code);
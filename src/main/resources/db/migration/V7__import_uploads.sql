@@ -0,0 +1,26 @@
+-- Bulk uploads that were imported. An identical file uploaded again by the same coordinator for the
+-- same period and mode gets the recorded result back instead of being parsed again.
+CREATE TABLE import_uploads (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id            BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    academic_period_id BIGINT NOT NULL REFERENCES academic_periods (id) ON DELETE CASCADE,
+    mode               VARCHAR(16) NOT NULL CHECK (mode IN ('INSERT', 'UPSERT')),
+    content_hash       VARCHAR(64) NOT NULL,
+    file_name          VARCHAR(255),
+    file_size          BIGINT NOT NULL,
+    row_count          INTEGER NOT NULL,
+    inserted           INTEGER NOT NULL,
+    updated            INTEGER NOT NULL,
+    unchanged          INTEGER NOT NULL,
+    created            TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_import_uploads_key UNIQUE (user_id, academic_period_id, mode, content_hash)
+);
+
+-- Syllabi created by an INSERT upload, in sheet order. No foreign key on the syllabus: syllabi
+-- deleted afterwards simply drop out of the replayed result.
+CREATE TABLE import_upload_syllabi (
+    upload_id   BIGINT NOT NULL REFERENCES import_uploads (id) ON DELETE CASCADE,
+    position    INTEGER NOT NULL,
+    syllabus_id BIGINT NOT NULL,
+    PRIMARY KEY (upload_id, position)
+);
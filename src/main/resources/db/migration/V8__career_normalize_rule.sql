@@ -0,0 +1,15 @@
+-- One rule for the career key, written out so Career.normalize can apply it character for character:
+-- the Spanish accented letters of V3 and A-Z become their lower-case plain letter, runs of ASCII
+-- whitespace become one space, and spaces at both ends go. Nothing else is folded, so no collation
+-- or Unicode table decides the result on either side.
+CREATE OR REPLACE FUNCTION sygsy_normalize_career(name TEXT) RETURNS TEXT AS $$
+    SELECT btrim(regexp_replace(translate(name,
+        'ÁÉÍÓÚÜÑÀÈÌÒÙÂÊÎÔÛÄËÏÖÇáéíóúüñàèìòùâêîôûäëïöçABCDEFGHIJKLMNOPQRSTUVWXYZ',
+        'aeiouunaeiouaeiouaeiocaeiouunaeiouaeiouaeiocabcdefghijklmnopqrstuvwxyz'),
+        '[ \t\n\r\f\v]+', ' ', 'g'), ' ')
+$$ LANGUAGE SQL IMMUTABLE;
+
+-- Keys written by the old Java rule (any combining mark stripped, Unicode lower case) are recomputed.
+-- Two careers that now share a key fail the unique constraint instead of being merged silently.
+UPDATE careers SET normalized_name = sygsy_normalize_career(name)
+WHERE normalized_name IS DISTINCT FROM sygsy_normalize_career(name);
@@ -0,0 +1,333 @@
+package com.sygsy.backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sygsy.backend.config.QueryBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Calls the endpoints annotated with @QueryBudget against a seeded database and checks the
+ * statements, entity loads and collection fetches Hibernate counted for each call. The data comes
+ * from the datagen profile, sized so every list holds more rows than any budget allows statements:
+ * a query per row (N+1) fails here instead of in production.
+ *
+ * Hibernate Statistics are global to the SessionFactory, which is exact here because the calls
+ * run one at a time.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "sygsy.datagen.careers=3",
+        "sygsy.datagen.professors=30",
+        "sygsy.datagen.periods=2",
+        "sygsy.datagen.courses-per-career=20",
+        "sygsy.datagen.text-paragraphs=3",
+        "sygsy.datagen.output-dir=target/query-budget-data"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("datagen")
+@Testcontainers
+class QueryBudgetTest {
+
+    private static final String COORDINATOR = "gen.coordinador0@ulasalle.edu.pe";
+    private static final String PROFESSOR = "gen.docente0@ulasalle.edu.pe";
+    private static final String ADMIN = "admin@ulasalle.edu.pe";
+
+    // Written by the generator for the first career, the coordinator's: one row per course
+    private static final String WORKBOOK = "target/query-budget-data/ingenieria_de_software.xlsx";
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void login() throws Exception {
+        assertWithinBudget(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + PROFESSOR + "\",\"password\":\"password\"}"));
+    }
+
+    @Test
+    void syllabusListForCoordinatorAndProfessor() throws Exception {
+        assertWithinBudget(get("/api/syllabi").with(user(COORDINATOR).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/syllabi").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/syllabi").param("status", "SUBMITTED").with(user(PROFESSOR).roles("PROFESSOR")));
+    }
+
+    @Test
+    void syllabusDetailAndPdf() throws Exception {
+        // A submitted syllabus has its units and evaluations filled
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM syllabi WHERE sumilla IS NOT NULL", Long.class);
+        assertWithinBudget(get("/api/syllabi/{id}", id).with(user(COORDINATOR).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/syllabi/{id}/pdf", id).with(user(COORDINATOR).roles("COORDINATOR")));
+    }
+
+    @Test
+    void export() throws Exception {
+        assertWithinBudget(get("/api/syllabi/export").param("academicPeriodId", String.valueOf(periodIds().get(1)))
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+    }
+
+    @Test
+    void dashboard() throws Exception {
+        assertWithinBudget(get("/api/dashboard/stats").with(user(COORDINATOR).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/dashboard/stats").param("academicPeriodId", String.valueOf(periodIds().get(1)))
+                .with(user(ADMIN).roles("COORDINATOR")));
+    }
+
+    @Test
+    void catalogs() throws Exception {
+        assertWithinBudget(get("/api/academic-periods").with(user(PROFESSOR).roles("PROFESSOR")));
+        assertWithinBudget(get("/api/academic-periods/{id}", periodIds().get(0)).with(user(PROFESSOR).roles("PROFESSOR")));
+        assertWithinBudget(get("/api/academic-periods/my-periods").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/careers").with(user(PROFESSOR).roles("PROFESSOR")));
+        assertWithinBudget(get("/api/users").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/users/professors").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/users/coordinators").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/syllabus-templates").with(user(ADMIN).roles("COORDINATOR")));
+    }
+
+    @Test
+    void bulkStatusChange() throws Exception {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT s.id FROM syllabi s JOIN users u ON u.username = ? "
+                + "WHERE s.career_id = u.career_id AND s.academic_period_id = ?", Long.class, COORDINATOR, periodIds().get(1));
+        assertThat(ids).hasSizeGreaterThan(12);
+        assertWithinBudget(post("/api/syllabi/status/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":" + ids.stream().map(String::valueOf).collect(Collectors.joining(",", "[", "]"))
+                        + ",\"targetStatus\":\"APPROVED\"}")
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+    }
+
+    @Test
+    void periodRollover() throws Exception {
+        MvcResult created = assertWithinBudget(post("/api/academic-periods")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"TEST-ROLLOVER\",\"startDate\":\"2030-03-01\",\"endDate\":\"2030-07-31\"}")
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+        Long target = jdbcTemplate.queryForObject("SELECT id FROM academic_periods WHERE name = 'TEST-ROLLOVER'", Long.class);
+        assertThat(created.getResponse().getContentAsString()).contains("TEST-ROLLOVER");
+
+        assertWithinBudget(post("/api/academic-periods/{id}/clone-from/{sourceId}", target, periodIds().get(1))
+                .param("withContent", "true")
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+        Integer copies = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM syllabi WHERE academic_period_id = ?", Integer.class, target);
+        assertThat(copies).isEqualTo(20);
+    }
+
+    // One syllabus from creation to deletion; the edit sends the units and evaluations back as the editor does
+    @Test
+    void syllabusLifecycle() throws Exception {
+        assertWithinBudget(post("/api/syllabi")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"academicPeriodId\":" + periodIds().get(1) + ",\"courseName\":\"Curso de Prueba\","
+                        + "\"courseCode\":\"TEST-LIFECYCLE\",\"professorEmail\":\"" + PROFESSOR + "\"}")
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM syllabi WHERE course_code = 'TEST-LIFECYCLE'", Long.class);
+
+        String units = IntStream.rangeClosed(1, 4)
+                .mapToObj(n -> "{\"unitNumber\":" + n + ",\"title\":\"UNIDAD " + n + "\",\"content\":\"Contenido\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        String evaluations = IntStream.rangeClosed(1, 6)
+                .mapToObj(n -> "{\"name\":\"EVIDENCIA " + n + "\",\"weight\":" + (n <= 4 ? "0.1" : "0.3") + "}")
+                .collect(Collectors.joining(",", "[", "]"));
+        assertWithinBudget(put("/api/syllabi/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sumilla\":\"Sumilla\",\"units\":" + units + ",\"evaluations\":" + evaluations + "}")
+                .with(user(PROFESSOR).roles("PROFESSOR")));
+        assertWithinBudget(post("/api/syllabi/{id}/status", id).param("status", "SUBMITTED")
+                .with(user(PROFESSOR).roles("PROFESSOR")));
+        assertWithinBudget(delete("/api/syllabi/{id}", id).with(user(COORDINATOR).roles("COORDINATOR")));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM syllabi WHERE id = ?", Integer.class, id)).isZero();
+    }
+
+    @Test
+    void catalogWrites() throws Exception {
+        assertWithinBudget(post("/api/careers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Carrera de Prueba\"}")
+                .with(user(ADMIN).roles("COORDINATOR")));
+        Long careerId = jdbcTemplate.queryForObject("SELECT id FROM careers WHERE name = 'Carrera de Prueba'", Long.class);
+        assertWithinBudget(delete("/api/careers/{id}", careerId).with(user(ADMIN).roles("COORDINATOR")));
+
+        Long professorId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'gen.docente29@ulasalle.edu.pe'", Long.class);
+        assertWithinBudget(put("/api/users/{id}", professorId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fullName\":\"Docente Veintinueve\",\"career\":\"Derecho\"}")
+                .with(user(ADMIN).roles("COORDINATOR")));
+    }
+
+    // Deleted again at the end, so the syllabi created by other tests still get the global template
+    @Test
+    void templateWrites() throws Exception {
+        assertWithinBudget(put("/api/syllabus-templates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"units\":[{\"title\":\"UNIDAD I\"},{\"title\":\"UNIDAD II\"}],"
+                        + "\"evaluations\":[{\"name\":\"PARCIAL\",\"weight\":0.5},{\"name\":\"FINAL\",\"weight\":0.5}]}")
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+        Long templateId = jdbcTemplate.queryForObject("SELECT t.id FROM syllabus_templates t JOIN users u ON u.career_id = t.career_id "
+                + "WHERE u.username = ? AND t.academic_period_id IS NULL", Long.class, COORDINATOR);
+        assertWithinBudget(delete("/api/syllabus-templates/{id}", templateId).with(user(COORDINATOR).roles("COORDINATOR")));
+    }
+
+    @Test
+    void flightRecording() throws Exception {
+        assertWithinBudget(post("/api/admin/jfr/start").param("durationMinutes", "1").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(get("/api/admin/jfr/status").with(user(ADMIN).roles("COORDINATOR")));
+        assertWithinBudget(post("/api/admin/jfr/stop").with(user(ADMIN).roles("COORDINATOR")));
+    }
+
+    // Each import goes into a period of its own, so none of them is answered from an earlier upload's record
+    @Test
+    void bulkImports() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "ingenieria_de_software.xlsx", XLSX, Files.readAllBytes(Paths.get(WORKBOOK)));
+        Long periodId = createPeriod("TEST-IMPORT");
+        assertWithinBudget(multipart("/api/syllabi/upload-bulk").file(file)
+                .param("academicPeriodId", String.valueOf(periodId))
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+        Integer imported = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM syllabi WHERE academic_period_id = ?", Integer.class, periodId);
+        assertThat(imported).isEqualTo(20);
+
+        assertWithinBudget(multipart("/api/syllabi/upsert-bulk").file(file)
+                .param("academicPeriodId", String.valueOf(periodId))
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+    }
+
+    @Test
+    void chunkedImports() throws Exception {
+        byte[] workbook = Files.readAllBytes(Paths.get(WORKBOOK));
+        Long periodId = createPeriod("TEST-CHUNKED");
+        assertWithinBudget(post("/api/syllabi/uploads/{id}/upload-bulk", upload(workbook))
+                .param("academicPeriodId", String.valueOf(periodId))
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+        Integer imported = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM syllabi WHERE academic_period_id = ?", Integer.class, periodId);
+        assertThat(imported).isEqualTo(20);
+
+        assertWithinBudget(post("/api/syllabi/uploads/{id}/upsert-bulk", upload(workbook))
+                .param("academicPeriodId", String.valueOf(periodId))
+                .with(user(COORDINATOR).roles("COORDINATOR")));
+    }
+
+    // Sends the workbook as a single chunk and returns the id of the upload
+    private String upload(byte[] workbook) throws Exception {
+        MvcResult init = mockMvc.perform(post("/api/syllabi/uploads")
+                .param("fileName", "ingenieria_de_software.xlsx")
+                .param("totalSize", String.valueOf(workbook.length))
+                .with(user(COORDINATOR).roles("COORDINATOR"))).andReturn();
+        String id = JsonPath.read(init.getResponse().getContentAsString(), "$.id");
+        mockMvc.perform(put("/api/syllabi/uploads/{id}", id)
+                .param("offset", "0")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(workbook)
+                .with(user(COORDINATOR).roles("COORDINATOR"))).andReturn();
+        return id;
+    }
+
+    private Long createPeriod(String name) {
+        return jdbcTemplate.queryForObject("INSERT INTO academic_periods (name, start_date, end_date, coordinator_id, status, created, modified) "
+                + "SELECT ?, DATE '2031-03-01', DATE '2031-07-31', id, 'ACTIVE', now(), now() FROM users WHERE username = ? RETURNING id",
+                Long.class, name, ADMIN);
+    }
+
+    // Generated periods, oldest first
+    private List<Long> periodIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM academic_periods WHERE name LIKE 'GEN-%' ORDER BY start_date", Long.class);
+    }
+
+    private MvcResult assertWithinBudget(MockHttpServletRequestBuilder request) throws Exception {
+        MockHttpServletRequest servletRequest = request.buildRequest(context.getServletContext());
+        QueryBudget budget = budgetOf(servletRequest);
+        String call = servletRequest.getMethod() + " " + servletRequest.getRequestURI();
+        assertThat(budget).as("@QueryBudget on %s", call).isNotNull();
+
+        statistics.clear();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            // Streamed bodies are written on another thread; the counts cover it as well
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        assertThat(result.getResponse().getStatus()).as("status of %s: %s", call, result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        assertThat(statistics.getPrepareStatementCount()).as("statements of %s", call)
+                .isLessThanOrEqualTo(budget.statements());
+        if (budget.entityLoads() >= 0) {
+            assertThat(statistics.getEntityLoadCount()).as("entity loads of %s", call)
+                    .isLessThanOrEqualTo(budget.entityLoads());
+        }
+        if (budget.collectionFetches() >= 0) {
+            assertThat(statistics.getCollectionFetchCount()).as("collection fetches of %s", call)
+                    .isLessThanOrEqualTo(budget.collectionFetches());
+        }
+        return result;
+    }
+
+    private QueryBudget budgetOf(MockHttpServletRequest request) throws Exception {
+        HandlerExecutionChain chain = handlerMapping.getHandler(request);
+        if (chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getMethodAnnotation(QueryBudget.class);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sygsy.backend.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Career.normalize and sygsy_normalize_career() must give the same key for any input: the catalog
+ * stores keys written by both (entities through Java, migrations and the dataset generator through
+ * SQL), and a lookup only finds a career when the two agree.
+ */
+@SpringBootTest
+@Testcontainers
+class CareerTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void foldsCaseAccentsAndSpacing() {
+        assertThat(Career.normalize("  INGENIERÍA   de\tSoftware \n")).isEqualTo("ingenieria de software");
+        assertThat(Career.normalize("Educación Física y Ñandú")).isEqualTo("educacion fisica y nandu");
+        assertThat(Career.normalize("")).isEmpty();
+        assertThat(Career.normalize(null)).isNull();
+    }
+
+    // Includes inputs neither side folds: other scripts, a decomposed accent and a no-break space
+    @Test
+    void matchesTheDatabaseFunction() {
+        List<String> names = List.of(
+                "Ingeniería de Software", "  INGENIERÍA   DE\tSOFTWARE ", "Administración y Negocios Internacionales",
+                "Psicología", "Educación Inicial", "Lingüística", "Ciências da Computação", "Straße", "İstanbul",
+                "Ingenieri\u0301a", "Arquitectura\u00A0y Urbanismo", "\r\n\t", "");
+        for (String name : names) {
+            String sql = jdbcTemplate.queryForObject("SELECT sygsy_normalize_career(?)", String.class, name);
+            assertThat(Career.normalize(name)).as("'%s'", name).isEqualTo(sql);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sygsy.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnMappingTest {
+
+    @Test
+    void mapsReorderedHeadersIgnoringCaseAndAccents() {
+        List<String> header = Arrays.asList("correo docente", "CODIGO", "Curso", null, "Facultad", "Carrera", "Ciclo",
+                "Creditos", "Horas Totales", "Horas Teoricas", "Horas Practicas", "Area de Formacion", "Tipo", "Prerequisitos");
+        ColumnMapping mapping = ColumnMapping.compile(header);
+
+        assertThat(mapping.column(ColumnMapping.Field.PROFESSOR_EMAIL)).isEqualTo(0);
+        assertThat(mapping.column(ColumnMapping.Field.COURSE_CODE)).isEqualTo(1);
+        assertThat(mapping.column(ColumnMapping.Field.FACULTY)).isEqualTo(4);
+        // Periodo comes from the request, so it may be left out
+        assertThat(mapping.column(ColumnMapping.Field.PERIOD)).isEqualTo(-1);
+        assertThat(mapping.width()).isEqualTo(header.size());
+    }
+
+    @Test
+    void mapsTheHeaderOfTheSampleWorkbooks() {
+        // Header row of lista_cursos_masiva.xlsx, the syllabus_*.xlsx samples and generate_3_careers.py
+        List<String> header = List.of("FACULTAD", "CARRERA PROFESIONAL", "PERIODO ACADÉMICO", "SEMESTRE", "CRÉDITOS",
+                "HORAS TOTALES", "HORAS TEORÍA", "HORAS PRÁCTICA", "ÁREA DE FORMACIÓN", "CÓDIGO", "ASIGNATURA",
+                "TIPO DE CURSO", "PRE-REQUISITOS", "EMAIL DOCENTE");
+        ColumnMapping mapping = ColumnMapping.compile(header);
+
+        for (ColumnMapping.Field field : ColumnMapping.Field.values()) {
+            assertThat(mapping.column(field)).as(field.name()).isEqualTo(field.ordinal());
+        }
+    }
+
+    @Test
+    void keepsTheFixedLayoutWhenNoHeaderMatches() {
+        assertThat(ColumnMapping.compile(List.of("Facultad de Ingeniería", "Ingeniería de Software", "2025-I")))
+                .isSameAs(ColumnMapping.POSITIONAL);
+    }
+
+    @Test
+    void rejectsAHeaderMissingSomeFields() {
+        List<String> header = List.of("Facultad", "Carrera", "Periodo", "Semestre", "Créditos", "Horas Totales", "Horas Teoría",
+                "Horas Práctica", "Área de Formación", "Código", "Curso", "Tipo", "Prerrequisitos", "Correo");
+
+        assertThatThrownBy(() -> ColumnMapping.compile(header))
+                .hasMessage("Faltan columnas en el encabezado: Correo Docente. Columnas no reconocidas: Correo.");
+    }
+}
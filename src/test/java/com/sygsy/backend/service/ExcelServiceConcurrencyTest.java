@@ -0,0 +1,166 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.Syllabus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several uploads parsed at once through one ExcelService, as happens when coordinators import at
+ * the same time. The workbooks hold the same rows in different column layouts and sheet counts, so
+ * every parse must match the single-threaded one; a difference means state leaked between parses.
+ */
+class ExcelServiceConcurrencyTest {
+
+    private static final int ROWS = 2000;
+    private static final int THREADS = 8;
+    private static final int PARSES_PER_THREAD = 6;
+
+    private static final String[] HEADER = {
+            "Facultad", "Carrera", "Periodo", "Semestre", "Créditos", "Horas Totales", "Horas Teoría",
+            "Horas Práctica", "Área de Formación", "Código", "Curso", "Tipo", "Prerrequisitos", "Correo Docente"
+    };
+
+    // Column layouts: the export order, reversed, and shuffled with an unknown column in between
+    private static final int[][] LAYOUTS = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13},
+            {13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0},
+            {9, 10, 0, 1, -1, 13, 3, 4, 5, 6, 7, 8, 11, 12, 2}
+    };
+
+    private ThreadPoolTaskExecutor jobExecutor;
+    private ExcelService excelService;
+
+    @BeforeEach
+    void setUp() {
+        // Smaller than the number of callers, so sheets of different uploads queue behind each other
+        jobExecutor = new ThreadPoolTaskExecutor();
+        jobExecutor.setCorePoolSize(4);
+        jobExecutor.setMaxPoolSize(4);
+        jobExecutor.initialize();
+        excelService = new ExcelService(new SimpleMeterRegistry(), jobExecutor, DataSize.ofMegabytes(512));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobExecutor.shutdown();
+    }
+
+    @Test
+    void concurrentParsesMatchTheSingleThreadedResult() throws Exception {
+        List<MockMultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < LAYOUTS.length; i++) {
+            files.add(xlsx("cursos_" + i + ".xlsx", 1, LAYOUTS[i]));
+            files.add(xlsx("cursos_" + i + "_hojas.xlsx", 4, LAYOUTS[i]));
+        }
+
+        // Reference result, parsed one file at a time before any concurrency
+        List<Syllabus> reference = excelService.parseAllSyllabi(files.get(0));
+        assertThat(reference).hasSize(ROWS);
+        long expected = fingerprint(reference);
+        for (MockMultipartFile file : files) {
+            assertThat(fingerprint(excelService.parseAllSyllabi(file))).as(file.getOriginalFilename()).isEqualTo(expected);
+        }
+
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<String>> parses = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                for (int p = 0; p < PARSES_PER_THREAD; p++) {
+                    MockMultipartFile file = files.get((t + p) % files.size());
+                    parses.add(() -> {
+                        List<Syllabus> syllabi = excelService.parseAllSyllabi(file);
+                        return file.getOriginalFilename() + ": " + syllabi.size() + " rows, fingerprint " + fingerprint(syllabi);
+                    });
+                }
+            }
+            for (Future<String> result : callers.invokeAll(parses)) {
+                assertThat(result.get()).endsWith(": " + ROWS + " rows, fingerprint " + expected);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    // Order-sensitive digest of every imported field
+    private static long fingerprint(List<Syllabus> syllabi) {
+        long hash = 1;
+        for (Syllabus s : syllabi) {
+            hash = 31 * hash + Objects.hash(s.getFaculty(), s.getCareer(), s.getSemester(), s.getCredits(), s.getTotalHours(),
+                    s.getTheoryHours(), s.getPracticeHours(), s.getTrainingArea(), s.getCourseCode(), s.getCourseName(),
+                    s.getCourseType(), s.getPrerequisites(), s.getProfessorEmail(), s.getWorkflowStatus());
+        }
+        return hash;
+    }
+
+    /**
+     * The same ROWS rows spread over the given number of sheets, each with its own header, with the
+     * columns in another order: layout[c] is the HEADER index written to column c, or -1 for an extra
+     * "Observaciones" column the importer does not know about.
+     */
+    private static MockMultipartFile xlsx(String name, int sheets, int[] layout) throws Exception {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = null;
+            int perSheet = (ROWS + sheets - 1) / sheets;
+            int rowInSheet = 0;
+            Object[] values = new Object[HEADER.length];
+            for (int r = 1; r <= ROWS; r++) {
+                if (sheet == null || rowInSheet == perSheet) {
+                    sheet = workbook.createSheet("Cursos " + (workbook.getNumberOfSheets() + 1));
+                    Row header = sheet.createRow(0);
+                    for (int c = 0; c < layout.length; c++) {
+                        header.createCell(c).setCellValue(layout[c] >= 0 ? HEADER[layout[c]] : "Observaciones");
+                    }
+                    rowInSheet = 0;
+                }
+                values[0] = "Facultad de Ingeniería";
+                values[1] = "Ingeniería de Software";
+                values[2] = "2025-I";
+                values[3] = String.valueOf(1 + r % 10);
+                values[4] = 4;
+                values[5] = 96;
+                values[6] = 32;
+                values[7] = 64;
+                values[8] = "Especialidad";
+                values[9] = "IS" + String.format("%06d", r);
+                values[10] = "Curso de prueba " + r;
+                values[11] = "Obligatorio";
+                values[12] = r > 1 ? "IS" + String.format("%06d", r - 1) : "Ninguno";
+                values[13] = "docente" + (r % 500) + "@ulasalle.edu.pe";
+
+                Row row = sheet.createRow(++rowInSheet);
+                for (int c = 0; c < layout.length; c++) {
+                    Object value = layout[c] >= 0 ? values[layout[c]] : "Revisar fila " + r;
+                    if (value instanceof Integer number) {
+                        row.createCell(c).setCellValue(number);
+                    } else {
+                        row.createCell(c).setCellValue((String) value);
+                    }
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+            return new MockMultipartFile("file", name,
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+}
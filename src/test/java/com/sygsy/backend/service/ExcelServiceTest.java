@@ -0,0 +1,63 @@
+package com.sygsy.backend.service;
+
+import com.sygsy.backend.domain.Syllabus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcelServiceTest {
+
+    private ThreadPoolTaskExecutor jobExecutor;
+    private ExcelService excelService;
+
+    @BeforeEach
+    void setUp() {
+        jobExecutor = new ThreadPoolTaskExecutor();
+        jobExecutor.initialize();
+        excelService = new ExcelService(new SimpleMeterRegistry(), jobExecutor, DataSize.ofMegabytes(64));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobExecutor.shutdown();
+    }
+
+    @Test
+    void skipsLaterSheetsWithoutAHeader() throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            // First sheet in the fixed layout, with no header names: still read by position
+            Sheet courses = workbook.createSheet("Cursos");
+            courses.createRow(0).createCell(0).setCellValue("FAC");
+            Row row = courses.createRow(1);
+            String[] values = {"Facultad de Ingeniería", "Ingeniería de Software", "2025-I", "1", "4", "96", "32", "64",
+                    "Especialidad", "IS101", "Programación I", "Obligatorio", "Ninguno", "docente@ulasalle.edu.pe"};
+            for (int c = 0; c < values.length; c++) {
+                row.createCell(c).setCellValue(values[c]);
+            }
+            Sheet instructions = workbook.createSheet("Instrucciones");
+            instructions.createRow(0).createCell(0).setCellValue("Complete una fila por curso.");
+            instructions.createRow(1).createCell(0).setCellValue("El código del curso es obligatorio.");
+            Sheet lists = workbook.createSheet("Listas");
+            lists.createRow(0).createCell(0).setCellValue("Obligatorio");
+            lists.createRow(1).createCell(0).setCellValue("Electivo");
+            workbook.write(out);
+
+            List<Syllabus> syllabi = excelService.parseAllSyllabi(new MockMultipartFile("file", "cursos.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray()));
+
+            assertThat(syllabi).extracting(Syllabus::getCourseCode).containsExactly("IS101");
+        }
+    }
+}